@@ -0,0 +1,36 @@
+// 빌드 결과물(dist)의 텍스트 자산에 대해 .br / .gz 사전 압축본 생성
+// 백엔드(StaticAssetIndex)가 기동 시 함께 로딩해 Accept-Encoding 에 맞춰 그대로 전송
+import { readdirSync, readFileSync, statSync, writeFileSync } from 'node:fs'
+import { join, extname } from 'node:path'
+import { brotliCompressSync, gzipSync, constants } from 'node:zlib'
+
+const DIST = new URL('../dist/', import.meta.url).pathname
+const COMPRESSIBLE = new Set(['.html', '.js', '.mjs', '.css', '.json', '.svg', '.txt', '.xml', '.map', '.webmanifest'])
+const MIN_BYTES = 1024
+
+function walk(dir) {
+  return readdirSync(dir).flatMap((name) => {
+    const path = join(dir, name)
+    return statSync(path).isDirectory() ? walk(path) : [path]
+  })
+}
+
+let count = 0
+for (const file of walk(DIST)) {
+  if (!COMPRESSIBLE.has(extname(file))) continue
+  const source = readFileSync(file)
+  if (source.length < MIN_BYTES) continue
+
+  const br = brotliCompressSync(source, {
+    params: {
+      [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+      [constants.BROTLI_PARAM_SIZE_HINT]: source.length,
+    },
+  })
+  const gz = gzipSync(source, { level: 9 })
+  // 압축 효과가 없으면 원본만 사용
+  if (br.length < source.length) writeFileSync(`${file}.br`, br)
+  if (gz.length < source.length) writeFileSync(`${file}.gz`, gz)
+  count++
+}
+console.log(`precompressed ${count} assets`)
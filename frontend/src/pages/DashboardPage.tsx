@@ -1,8 +1,23 @@
 import React, { useState, useEffect } from 'react'
-import { Card, Row, Col, Button, Space, Progress, Statistic, Alert, message, Spin, InputNumber } from 'antd'
-import { PlayCircleOutlined, ReloadOutlined, ThunderboltOutlined, DatabaseOutlined } from '@ant-design/icons'
-import { systemAPI } from '../services/api'
-import type { SystemInfo, HealthStatus } from '../types'
+import { Card, Row, Col, Button, Space, Progress, Statistic, Alert, message, Spin, InputNumber, Input, Table, Descriptions } from 'antd'
+import { PlayCircleOutlined, ReloadOutlined, ThunderboltOutlined, DatabaseOutlined, FireOutlined } from '@ant-design/icons'
+import { systemAPI, profilingAPI } from '../services/api'
+import type { SystemInfo, HealthStatus, ProfilingStatus, ProfilingSummary, HotFrame } from '../types'
+
+const formatBytes = (bytes: number) =>
+  bytes >= 1024 * 1024 ? `${(bytes / 1024 / 1024).toFixed(1)}MB` : `${(bytes / 1024).toFixed(1)}KB`
+
+const hotFrameColumns = (unit: 'samples' | 'bytes') => [
+  { title: '프레임', dataIndex: 'frame', key: 'frame', ellipsis: true },
+  {
+    title: unit === 'samples' ? '샘플' : '할당',
+    dataIndex: unit,
+    key: unit,
+    width: 100,
+    render: (value: number) => (unit === 'bytes' ? formatBytes(value) : value),
+  },
+  { title: '%', dataIndex: 'percent', key: 'percent', width: 70 },
+]
 
 const DashboardPage: React.FC = () => {
   const [loading, setLoading] = useState(true)
@@ -20,6 +35,11 @@ const DashboardPage: React.FC = () => {
     cpu?: any,
     memory?: any
   }>({})
+  const [adminToken, setAdminToken] = useState('')
+  const [profilingSeconds, setProfilingSeconds] = useState(30)
+  const [profilingStatus, setProfilingStatus] = useState<ProfilingStatus | null>(null)
+  const [profilingSummary, setProfilingSummary] = useState<ProfilingSummary | null>(null)
+  const [profilingLoading, setProfilingLoading] = useState(false)
 
   useEffect(() => {
     fetchSystemData()
@@ -81,6 +101,37 @@ const DashboardPage: React.FC = () => {
     }
   }
 
+  const handleStartProfiling = async () => {
+    setProfilingLoading(true)
+    try {
+      const status = await profilingAPI.start(adminToken, profilingSeconds)
+      setProfilingStatus(status)
+      setProfilingSummary(null)
+      message.success(`프로파일링 시작 (${profilingSeconds}초)`)
+    } catch (error: any) {
+      message.error(error.response?.data?.error || '프로파일링을 시작할 수 없습니다')
+    } finally {
+      setProfilingLoading(false)
+    }
+  }
+
+  const handleLoadSummary = async () => {
+    setProfilingLoading(true)
+    try {
+      const status = await profilingAPI.getStatus(adminToken)
+      setProfilingStatus(status)
+      if (status.state === 'RUNNING') {
+        message.info('프로파일링 기록 중입니다. 완료 후 다시 시도하세요.')
+        return
+      }
+      setProfilingSummary(await profilingAPI.getSummary(adminToken))
+    } catch (error: any) {
+      message.error(error.response?.status === 404 ? '완료된 기록이 없습니다' : '프로파일링 결과를 불러올 수 없습니다')
+    } finally {
+      setProfilingLoading(false)
+    }
+  }
+
   const getMemoryUsagePercent = () => {
     if (!systemInfo) return 0
     return Math.round((systemInfo.used_memory_mb / systemInfo.total_memory_mb) * 100)
@@ -157,8 +208,10 @@ const DashboardPage: React.FC = () => {
             <Col xs={24} md={12}>
               <Alert
                 message={`애플리케이션 상태: ${healthStatus.status}`}
-                description={`버전: ${healthStatus.version}`}
-                type={healthStatus.status === 'UP' ? 'success' : 'error'}
+                description={healthStatus.pool?.active !== undefined
+                  ? `버전: ${healthStatus.version} · 커넥션 풀 ${healthStatus.pool.active}/${healthStatus.pool.max} 사용, 대기 ${healthStatus.pool.pending_threads}`
+                  : `버전: ${healthStatus.version}`}
+                type={healthStatus.status === 'UP' ? 'success' : healthStatus.status === 'DEGRADED' ? 'warning' : 'error'}
                 showIcon
               />
             </Col>
@@ -202,6 +255,88 @@ const DashboardPage: React.FC = () => {
         </Card>
       )}
 
+      {/* 프로파일링 핫스팟 */}
+      <Card title="🔬 핫스팟 프로파일링 (JFR)" style={{ marginBottom: 24 }}>
+        <Space wrap style={{ marginBottom: 16 }}>
+          <Input.Password
+            placeholder="관리자 토큰"
+            value={adminToken}
+            onChange={(e) => setAdminToken(e.target.value)}
+            style={{ width: 200 }}
+          />
+          <label>기록 시간 (초):</label>
+          <InputNumber
+            min={1}
+            max={profilingStatus?.max_duration_seconds || 300}
+            value={profilingSeconds}
+            onChange={(value) => setProfilingSeconds(value || 30)}
+          />
+          <Button
+            type="primary"
+            icon={<FireOutlined />}
+            onClick={handleStartProfiling}
+            loading={profilingLoading}
+            disabled={!adminToken}
+          >
+            기록 시작
+          </Button>
+          <Button icon={<ReloadOutlined />} onClick={handleLoadSummary} disabled={!adminToken}>
+            결과 보기
+          </Button>
+          {profilingStatus && (
+            <span style={{ color: '#666' }}>
+              상태: {profilingStatus.state}{profilingStatus.file ? ` · ${profilingStatus.file}` : ''}
+            </span>
+          )}
+        </Space>
+
+        {profilingSummary && (
+          <>
+            <Row gutter={[24, 24]}>
+              <Col xs={24} lg={12}>
+                <Card
+                  title={`CPU (앱 샘플 ${profilingSummary.cpu.app_samples}/${profilingSummary.cpu.samples})`}
+                  size="small"
+                >
+                  <Table<HotFrame>
+                    size="small"
+                    pagination={false}
+                    rowKey="frame"
+                    columns={hotFrameColumns('samples')}
+                    dataSource={profilingSummary.cpu.top_frames}
+                  />
+                </Card>
+              </Col>
+              <Col xs={24} lg={12}>
+                <Card
+                  title={`할당 (샘플 ${formatBytes(profilingSummary.allocation.sampled_bytes)})`}
+                  size="small"
+                >
+                  <Table<HotFrame>
+                    size="small"
+                    pagination={false}
+                    rowKey="frame"
+                    columns={hotFrameColumns('bytes')}
+                    dataSource={profilingSummary.allocation.top_frames}
+                  />
+                </Card>
+              </Col>
+            </Row>
+            <Descriptions size="small" bordered column={1} style={{ marginTop: 16 }}>
+              {Object.entries(profilingSummary.gc_pauses).map(([collector, stats]) => (
+                <Descriptions.Item key={collector} label={`GC ${collector}`}>
+                  {stats.count}회 · 합계 {stats.total_ms.toFixed(1)}ms · 최대 {stats.max_ms.toFixed(1)}ms
+                </Descriptions.Item>
+              ))}
+              <Descriptions.Item label="세이프포인트">
+                {profilingSummary.safepoints.count}회 · 합계 {profilingSummary.safepoints.total_ms.toFixed(1)}ms
+                · 최대 {profilingSummary.safepoints.max_ms.toFixed(1)}ms
+              </Descriptions.Item>
+            </Descriptions>
+          </>
+        )}
+      </Card>
+
       {/* 부하 테스트 */}
       <Card title="⚡ 부하 테스트" style={{ marginBottom: 24 }}>
         <Alert
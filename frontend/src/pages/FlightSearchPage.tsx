@@ -249,7 +249,12 @@ const FlightSearchPage: React.FC = () => {
                         </Col>
                         <Col xs={24} sm={12}>
                           <div className="flight-price">
-                            <DollarOutlined /> {formatCurrency(flight.price)}
+                            <DollarOutlined /> {formatCurrency(flight.currentPrice ?? flight.price)}
+                            {flight.currentPrice != null && flight.currentPrice !== flight.price && (
+                              <span style={{ marginLeft: 8, color: '#999', fontSize: '12px' }}>
+                                기준 {formatCurrency(flight.price)}
+                              </span>
+                            )}
                           </div>
                           <div style={{ color: '#666', fontSize: '14px' }}>
                             잔여 좌석: {flight.availableSeats}/{flight.totalSeats}
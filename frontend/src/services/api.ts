@@ -1,5 +1,5 @@
 import axios from 'axios'
-import type { Flight, Reservation, CreateReservationRequest, FlightSearchParams, SystemInfo, HealthStatus } from '../types'
+import type { Flight, Reservation, CreateReservationRequest, FlightSearchParams, SystemInfo, HealthStatus, ProfilingStatus, ProfilingSummary } from '../types'
 
 const API_BASE_URL = process.env.NODE_ENV === 'production' ? '' : 'http://localhost:8080'
 
@@ -105,4 +105,21 @@ export const systemAPI = {
     }).then(res => res.data),
 }
 
+// Profiling API (관리자 토큰 필요)
+const adminHeaders = (token: string) => ({ headers: { 'X-Admin-Token': token } })
+
+export const profilingAPI = {
+  start: (token: string, durationSeconds: number = 60): Promise<ProfilingStatus> =>
+    api.post(`/admin/profiling/start?duration=${durationSeconds}`, null, adminHeaders(token)).then(res => res.data),
+    
+  stop: (token: string): Promise<ProfilingStatus> =>
+    api.post('/admin/profiling/stop', null, adminHeaders(token)).then(res => res.data),
+    
+  getStatus: (token: string): Promise<ProfilingStatus> =>
+    api.get('/admin/profiling/status', adminHeaders(token)).then(res => res.data),
+    
+  getSummary: (token: string, top: number = 10): Promise<ProfilingSummary> =>
+    api.get(`/admin/profiling/summary?top=${top}`, adminHeaders(token)).then(res => res.data),
+}
+
 export default api
\ No newline at end of file
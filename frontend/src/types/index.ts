@@ -16,6 +16,7 @@ export interface Flight {
   totalSeats: number
   availableSeats: number
   price: number
+  currentPrice?: number | null
 }
 
 export interface Reservation {
@@ -62,5 +63,54 @@ export interface HealthStatus {
     type: string
     url?: string
     error?: string
+    reason?: string
   }
-}
\ No newline at end of file
+  pool?: {
+    max: number
+    active?: number
+    idle?: number
+    total?: number
+    pending_threads?: number
+  }
+  checked_at?: string
+}
+
+export interface HotFrame {
+  frame?: string
+  class?: string
+  samples?: number
+  bytes?: number
+  percent: number
+}
+
+export interface PauseStats {
+  count: number
+  total_ms: number
+  max_ms: number
+  avg_ms: number
+}
+
+export interface ProfilingStatus {
+  state: string
+  started_at?: string
+  duration_seconds?: number
+  file?: string
+  size_bytes?: number
+  max_duration_seconds: number
+}
+
+export interface ProfilingSummary {
+  package: string
+  cpu: {
+    samples: number
+    app_samples: number
+    top_frames: HotFrame[]
+  }
+  allocation: {
+    sampled_bytes: number
+    top_frames: HotFrame[]
+    top_classes: HotFrame[]
+  }
+  gc_pauses: Record<string, PauseStats>
+  safepoints: PauseStats
+}
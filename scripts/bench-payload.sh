@@ -0,0 +1,47 @@
+#!/bin/bash
+
+# Skyline 응답 페이로드 벤치마크 (전송 바이트 / 응답 시간)
+# Usage: ./bench-payload.sh [BASE_URL] [REPEAT]
+# 10k 건 측정 시 sql/bench-data.sql 로 데이터를 먼저 적재하세요.
+
+set -e
+
+BASE_URL=${1:-http://localhost:8080}
+REPEAT=${2:-5}
+
+# 색상 정의
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+ENDPOINTS=("/api/flights" "/api/reservations")
+ACCEPTS=("application/json" "application/vnd.skyline.compact+json" "application/x-jackson-smile" "application/cbor")
+ENCODINGS=("identity" "gzip")
+
+echo -e "${GREEN}=== Skyline 페이로드 벤치마크 ===${NC}"
+echo -e "${YELLOW}대상: $BASE_URL (반복 $REPEAT 회, 평균)${NC}"
+echo ""
+printf "%-20s %-40s %-9s %12s %12s\n" "ENDPOINT" "ACCEPT" "ENCODING" "BYTES" "AVG_MS"
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    for accept in "${ACCEPTS[@]}"; do
+        for encoding in "${ENCODINGS[@]}"; do
+            total_ms=0
+            bytes=0
+            # 첫 요청은 워밍업으로 제외
+            curl -s -o /dev/null -H "Accept: $accept" -H "Accept-Encoding: $encoding" "$BASE_URL$endpoint"
+            for ((i = 0; i < REPEAT; i++)); do
+                result=$(curl -s -o /dev/null -w "%{size_download} %{time_total}" \
+                    -H "Accept: $accept" -H "Accept-Encoding: $encoding" "$BASE_URL$endpoint")
+                bytes=$(echo "$result" | awk '{print $1}')
+                ms=$(echo "$result" | awk '{printf "%d", $2 * 1000}')
+                total_ms=$((total_ms + ms))
+            done
+            printf "%-20s %-40s %-9s %12s %12s\n" "$endpoint" "$accept" "$encoding" "$bytes" "$((total_ms / REPEAT))"
+        done
+    done
+done
+
+echo ""
+echo -e "${YELLOW}AVG_MS 는 네트워크/DB 조회를 포함한 전체 응답 시간입니다.${NC}"
+echo -e "${YELLOW}포맷별 직렬화 CPU 비용: scripts/run-benchmarks.sh PayloadSerializationBenchmark${NC}"
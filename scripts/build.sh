@@ -154,6 +154,7 @@ fi
 
 # Docker 빌드
 echo -e "${YELLOW}Docker 이미지 빌드 중...${NC}"
+echo -e "${YELLOW}(Spring AOT 처리 및 CDS 아카이브 생성 포함)${NC}"
 echo "이미지: $REGISTRY/$IMAGE_NAME:$TAG"
 
 docker build -t "$REGISTRY/$IMAGE_NAME:$TAG" .
@@ -178,6 +179,8 @@ echo -e "${YELLOW}다음 단계:${NC}"
 echo -e "${YELLOW}1. 로컬 테스트:${NC}"
 echo "   docker run -p 8080:8080 $REGISTRY/$IMAGE_NAME:$TAG"
 echo ""
+echo -e "${YELLOW}   기동 시간 비교: ./scripts/measure-startup.sh $REGISTRY/$IMAGE_NAME:$TAG baseline|fast${NC}"
+echo ""
 echo -e "${YELLOW}2. 레지스트리에 푸시:${NC}"
 echo "   docker push $REGISTRY/$IMAGE_NAME:$TAG"
 echo ""
@@ -0,0 +1,110 @@
+#!/bin/bash
+
+# Skyline 기동 시간 측정 (컨테이너 시작 → /ready READY → 첫 API 응답)
+# Usage: ./measure-startup.sh <IMAGE|APP_DIR> [baseline|fast]
+#   baseline: CDS/AOT/지연 초기화 없이 실행
+#   fast    : 이미지 기본 CMD (CDS + AOT + fast-start 프로필)
+# DB_HOST 등 환경변수는 docker run 에 그대로 전달됩니다.
+# APP_DIR(fat jar 를 풀어 둔 BOOT-INF) 을 주면 Docker 없이 local 프로필(H2)로 JVM 을 직접 실행합니다 (H2 는 -Plocal 빌드에만 포함).
+#   mvn clean package -DskipTests -Pfast-start,local && mkdir -p target/app && (cd target/app && jar -xf ../skyline-1.0.0.jar)
+#   ./measure-startup.sh target/app/BOOT-INF baseline
+
+set -e
+
+if [ $# -lt 1 ]; then
+    echo "Usage: $0 <IMAGE|APP_DIR> [baseline|fast]"
+    exit 1
+fi
+
+IMAGE=$1
+MODE=${2:-fast}
+PORT=${PORT:-18080}
+NAME="skyline-startup-$$"
+
+# 색상 정의
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m'
+
+ENV_ARGS=()
+for var in DB_HOST DB_PORT DB_NAME DB_USER DB_PASSWORD; do
+    if [ -n "${!var}" ]; then
+        ENV_ARGS+=(-e "$var=${!var}")
+    fi
+done
+
+CMD_ARGS=()
+if [ "$MODE" = "baseline" ]; then
+    CMD_ARGS=(java -Dspring.profiles.active=production -cp "app.jar:lib/*" com.example.skyline.SkylineApplication)
+fi
+
+APP_PID=""
+cleanup() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" > /dev/null 2>&1 || true
+    else
+        docker rm -f "$NAME" > /dev/null 2>&1 || true
+    fi
+}
+trap cleanup EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+echo -e "${GREEN}=== Skyline 기동 시간 측정 ($MODE) ===${NC}"
+
+if [ -d "$IMAGE" ]; then
+    # Docker 없이 이미지와 같은 JVM 옵션으로 실행 (DB 는 H2)
+    cd "$IMAGE"
+    # 이미지와 같이 애플리케이션 클래스를 app.jar 로 묶음 (CDS 는 classpath 디렉터리를 허용하지 않음)
+    if [ ! -f app.jar ]; then
+        jar -cf app.jar -C classes .
+    fi
+    if [ "$MODE" = "baseline" ]; then
+        JVM_ARGS=(-Dspring.profiles.active=local)
+    else
+        if [ ! -f app.jsa ]; then
+            echo -e "${YELLOW}CDS 아카이브 생성 중...${NC}"
+            java -XX:ArchiveClassesAtExit=app.jsa -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+                -Dspring.profiles.active=local -cp "app.jar:lib/*" com.example.skyline.SkylineApplication > /dev/null
+        fi
+        JVM_ARGS=(-XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=local,fast-start)
+    fi
+    START=$(now_ms)
+    java "${JVM_ARGS[@]}" -Dserver.port="$PORT" -cp "app.jar:lib/*" com.example.skyline.SkylineApplication \
+        > "/tmp/$NAME.log" 2>&1 &
+    APP_PID=$!
+else
+    START=$(now_ms)
+    docker run -d --name "$NAME" -p "$PORT:8080" "${ENV_ARGS[@]}" "$IMAGE" "${CMD_ARGS[@]}" > /dev/null
+fi
+
+# /ready 가 200 을 반환할 때까지 대기 (최대 180초)
+READY=""
+for ((i = 0; i < 1800; i++)); do
+    if curl -sf "http://localhost:$PORT/ready" > /dev/null 2>&1; then
+        READY=$(now_ms)
+        break
+    fi
+    sleep 0.1
+done
+
+if [ -z "$READY" ]; then
+    echo -e "${RED}180초 내에 READY 상태가 되지 않았습니다${NC}"
+    if [ -n "$APP_PID" ]; then
+        tail -n 30 "/tmp/$NAME.log"
+    else
+        docker logs "$NAME" | tail -n 30
+    fi
+    exit 1
+fi
+
+curl -sf -o /dev/null "http://localhost:$PORT/api/flights"
+FIRST=$(now_ms)
+
+echo -e "${YELLOW}컨테이너 시작 → READY    : $((READY - START)) ms${NC}"
+echo -e "${YELLOW}컨테이너 시작 → 첫 API 응답: $((FIRST - START)) ms${NC}"
+curl -s "http://localhost:$PORT/ready"
+echo ""
@@ -0,0 +1,28 @@
+#!/bin/bash
+
+# Skyline JMH 마이크로 벤치마크 실행
+# Usage: ./run-benchmarks.sh [BENCHMARK_REGEX] [JMH 옵션...]
+# 예: ./run-benchmarks.sh PricingEngineBenchmark
+#     ./run-benchmarks.sh PayloadSerializationBenchmark -p format=json,cbor
+
+set -e
+
+# 색상 정의
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+NC='\033[0m'
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+cd "$PROJECT_ROOT"
+
+BENCHMARK=${1:-.*Benchmark}
+shift || true
+
+echo -e "${GREEN}=== Skyline 마이크로 벤치마크 ===${NC}"
+echo -e "${YELLOW}테스트 클래스 컴파일 중 (JMH 어노테이션 처리)...${NC}"
+mvn -B -q test-compile
+mvn -B -q dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark.classpath
+
+CLASSPATH="target/test-classes:target/classes:$(cat target/benchmark.classpath)"
+java -cp "$CLASSPATH" org.openjdk.jmh.Main "$BENCHMARK" "$@"
@@ -0,0 +1,49 @@
+#!/bin/bash
+
+# 좌석 인벤토리 샤딩 확인용 로컬 클러스터 (동일 MySQL 을 공유하는 레플리카 N개)
+# Usage: ./run-local-cluster.sh [NODES] [JAR]
+#   NODES: 레플리카 수 (기본 3, 포트 8080부터)
+#   JAR  : 실행할 jar (기본 target/skyline-*.jar)
+# 사전 준비: docker compose up -d skyline-db
+
+set -e
+
+NODES=${1:-3}
+JAR=${2:-$(ls target/skyline-*.jar 2>/dev/null | grep -v original | head -n 1)}
+BASE_PORT=${BASE_PORT:-8080}
+TOKEN=${INVENTORY_TOKEN:-local-cluster}
+
+if [ -z "$JAR" ] || [ ! -f "$JAR" ]; then
+    echo "jar 파일을 찾을 수 없습니다. 먼저 ./scripts/build.sh 를 실행하세요."
+    exit 1
+fi
+
+MEMBERS=""
+for ((i = 0; i < NODES; i++)); do
+    MEMBERS="${MEMBERS:+$MEMBERS,}http://localhost:$((BASE_PORT + i))"
+done
+
+PIDS=()
+cleanup() {
+    echo "레플리카 종료 중..."
+    kill "${PIDS[@]}" 2>/dev/null || true
+}
+trap cleanup EXIT INT TERM
+
+mkdir -p logs
+for ((i = 0; i < NODES; i++)); do
+    PORT=$((BASE_PORT + i))
+    SERVER_PORT=$PORT \
+    INVENTORY_SHARDING_ENABLED=true \
+    INVENTORY_SELF_URL="http://localhost:$PORT" \
+    INVENTORY_MEMBERS="$MEMBERS" \
+    INVENTORY_TOKEN="$TOKEN" \
+    OUTBOX_SEGMENT_DIR="./data/outbox-$PORT" \
+        java -jar "$JAR" --server.port="$PORT" > "logs/node-$PORT.log" 2>&1 &
+    PIDS+=($!)
+    echo "레플리카 시작: http://localhost:$PORT (pid ${PIDS[-1]})"
+done
+
+echo "멤버: $MEMBERS"
+echo "링 확인: curl http://localhost:$BASE_PORT/internal/inventory/ring"
+wait
@@ -0,0 +1,50 @@
+-- Skyline 페이로드 벤치마크용 대량 데이터 (항공편 10,000건 / 예약 10,000건)
+-- seed-data.sql 적용 후 실행: mysql ... skyline < sql/bench-data.sql
+
+SET SESSION cte_max_recursion_depth = 10000;
+
+-- 항공편 10,000건 (seed-data.sql의 공항 코드 순환)
+INSERT INTO flights (flight_number, departure_airport, arrival_airport, departure_time, arrival_time, aircraft_type, total_seats, available_seats, price)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 10000
+),
+codes AS (
+    SELECT airport_code, ROW_NUMBER() OVER (ORDER BY airport_code) - 1 AS idx,
+           COUNT(*) OVER () AS cnt
+    FROM airports
+)
+SELECT CONCAT('BX', LPAD(seq.n, 5, '0')),
+       dep.airport_code,
+       arr.airport_code,
+       TIMESTAMP('2026-01-01') + INTERVAL (seq.n * 37) MINUTE,
+       TIMESTAMP('2026-01-01') + INTERVAL (seq.n * 37 + 150) MINUTE,
+       'Airbus A320',
+       180,
+       180,
+       200000.00 + (seq.n % 50) * 10000
+FROM seq
+JOIN codes dep ON dep.idx = seq.n % dep.cnt
+JOIN codes arr ON arr.idx = (seq.n + 1 + seq.n % 5) % arr.cnt;
+
+-- 예약 10,000건 (벤치마크 항공편마다 1건)
+INSERT INTO reservations (flight_id, passenger_name, passenger_email, passenger_phone, seat_number, status)
+SELECT f.flight_id,
+       CONCAT('Bench Passenger ', f.flight_id),
+       CONCAT('bench', f.flight_id, '@example.com'),
+       '010-0000-0000',
+       '1A',
+       'CONFIRMED'
+FROM flights f
+WHERE f.flight_number LIKE 'BX%';
+
+-- 잔여 좌석을 확정 예약 수 기준으로 다시 계산 (예약 트리거 유무와 관계없이 일관된 값)
+UPDATE flights f
+SET available_seats = f.total_seats - (
+        SELECT COUNT(*) FROM reservations r
+        WHERE r.flight_id = f.flight_id AND r.status = 'CONFIRMED')
+WHERE f.flight_number LIKE 'BX%';
+
+ANALYZE TABLE flights;
+ANALYZE TABLE reservations;
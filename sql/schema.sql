@@ -42,7 +42,8 @@ CREATE TABLE IF NOT EXISTS flights (
     INDEX idx_arrival_airport (arrival_airport),
     INDEX idx_departure_time (departure_time),
     INDEX idx_route_date (departure_airport, arrival_airport, departure_time),
-    INDEX idx_available_seats (available_seats)
+    INDEX idx_available_seats (available_seats),
+    INDEX idx_updated_at (updated_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='항공편 정보';
 
 -- 예약 테이블
@@ -68,6 +69,50 @@ CREATE TABLE IF NOT EXISTS reservations (
     UNIQUE KEY uk_flight_seat (flight_id, seat_number)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='예약 정보';
 
+-- 예약 변경 이벤트 아웃박스 (예약 변경과 같은 트랜잭션으로 기록, event_id 가 변경 피드 오프셋)
+CREATE TABLE IF NOT EXISTS reservation_outbox (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이벤트 ID',
+    sequence_no BIGINT NULL COMMENT '릴레이가 커밋 순서로 부여한 순번 (변경 피드/싱크 오프셋)',
+    event_type VARCHAR(40) NOT NULL COMMENT '이벤트 유형',
+    aggregate_id BIGINT COMMENT '예약 ID',
+    flight_id BIGINT COMMENT '항공편 ID',
+    payload TEXT NOT NULL COMMENT '이벤트 본문 (JSON)',
+    created_at DATETIME NOT NULL COMMENT '생성일시',
+    published_at DATETIME NULL COMMENT '발행일시',
+    
+    UNIQUE INDEX uk_outbox_sequence (sequence_no),
+    INDEX idx_outbox_unpublished (published_at, sequence_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='예약 변경 아웃박스';
+
+-- 아웃박스 릴레이 커서 (행이 없으면 릴레이가 기존 event_id 최댓값으로 생성)
+CREATE TABLE IF NOT EXISTS outbox_relay_state (
+    relay_id INT PRIMARY KEY COMMENT '릴레이 ID',
+    last_sequence BIGINT NOT NULL COMMENT '마지막으로 부여한 순번'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='아웃박스 릴레이 커서';
+
+-- 다른 레플리카로 아직 전달되지 않은 좌석 반환/감소 무효화 (인벤토리 샤딩 사용 시)
+CREATE TABLE IF NOT EXISTS seat_adjustments (
+    request_id VARCHAR(64) PRIMARY KEY COMMENT '요청 ID (소유자 멱등 처리 키)',
+    flight_id BIGINT NOT NULL COMMENT '항공편 ID',
+    seats INT NOT NULL COMMENT '반환할 좌석 수 (무효화 요청은 0)',
+    voids_request_id VARCHAR(64) NULL COMMENT '무효화할 좌석 감소 요청 ID',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '전달 시도 횟수',
+    next_attempt_at DATETIME NOT NULL COMMENT '다음 전달 시도 시각',
+    created_at DATETIME NOT NULL COMMENT '생성일시',
+    
+    INDEX idx_seat_adjustments_due (next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='미전달 좌석 변경';
+
+-- 소유 레플리카가 처리한 좌석 변경 요청 (재전달 멱등 처리)
+CREATE TABLE IF NOT EXISTS inventory_requests (
+    request_id VARCHAR(64) PRIMARY KEY COMMENT '요청 ID',
+    flight_id BIGINT NOT NULL COMMENT '항공편 ID',
+    seats INT NOT NULL COMMENT '적용된 좌석 변화량 (0 = 적용 전 무효화된 감소)',
+    created_at DATETIME NOT NULL COMMENT '처리일시',
+    
+    INDEX idx_inventory_requests_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='좌석 변경 요청 처리 기록';
+
 -- 예약 통계 뷰 (선택사항)
 CREATE OR REPLACE VIEW reservation_stats AS
 SELECT 
@@ -85,46 +130,18 @@ FROM flights f
 LEFT JOIN reservations r ON f.flight_id = r.flight_id
 GROUP BY f.flight_id;
 
--- 트리거: 예약 생성 시 available_seats 감소
-DELIMITER //
-CREATE TRIGGER tr_reservation_insert 
-AFTER INSERT ON reservations
-FOR EACH ROW
-BEGIN
-    IF NEW.status = 'CONFIRMED' THEN
-        UPDATE flights 
-        SET available_seats = available_seats - 1 
-        WHERE flight_id = NEW.flight_id;
-    END IF;
-END//
-
--- 트리거: 예약 상태 변경 시 available_seats 조정
-CREATE TRIGGER tr_reservation_update
-AFTER UPDATE ON reservations
-FOR EACH ROW
-BEGIN
-    -- 확정 -> 취소
-    IF OLD.status = 'CONFIRMED' AND NEW.status = 'CANCELLED' THEN
-        UPDATE flights 
-        SET available_seats = available_seats + 1 
-        WHERE flight_id = NEW.flight_id;
-    -- 취소 -> 확정
-    ELSEIF OLD.status = 'CANCELLED' AND NEW.status = 'CONFIRMED' THEN
-        UPDATE flights 
-        SET available_seats = available_seats - 1 
-        WHERE flight_id = NEW.flight_id;
-    END IF;
-END//
+-- 좌석 수(available_seats)는 애플리케이션이 예약 생성/취소/삭제 시 직접 보정하므로 트리거를 두지 않음
+-- (트리거와 함께 쓰면 같은 변경이 두 번 반영됨). 이전 스키마로 만든 DB 에서는 아래 문으로 제거
+DROP TRIGGER IF EXISTS tr_reservation_insert;
+DROP TRIGGER IF EXISTS tr_reservation_update;
+DROP TRIGGER IF EXISTS tr_reservation_delete;
 
--- 트리거: 예약 삭제 시 available_seats 증가
-CREATE TRIGGER tr_reservation_delete
-AFTER DELETE ON reservations
-FOR EACH ROW
-BEGIN
-    IF OLD.status = 'CONFIRMED' THEN
-        UPDATE flights 
-        SET available_seats = available_seats + 1 
-        WHERE flight_id = OLD.flight_id;
-    END IF;
-END//
-DELIMITER ;
\ No newline at end of file
+-- 이전 스키마로 만든 DB 에 스케줄 델타 조회용 인덱스 추가 (MySQL 8 은 CREATE INDEX IF NOT EXISTS 미지원)
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE flights ADD INDEX idx_updated_at (updated_at)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'flights' AND index_name = 'idx_updated_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,16 @@
+package com.example.skyline.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public final class AccessTokens {
+
+    // 설정된 토큰이 비어 있으면 항상 거부, 비교는 상수 시간
+    public static boolean matches(String expected, String provided) {
+        return expected != null && !expected.isEmpty() && provided != null
+                && MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                provided.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AccessTokens() {}
+}
@@ -0,0 +1,15 @@
+package com.example.skyline.config;
+
+import org.springframework.http.MediaType;
+
+public final class ApiMediaTypes {
+
+    // 공항 객체를 한 번만 내려주는 압축 JSON 형태
+    public static final String COMPACT_JSON_VALUE = "application/vnd.skyline.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final String CBOR_VALUE = "application/cbor";
+
+    private ApiMediaTypes() {}
+}
@@ -0,0 +1,46 @@
+package com.example.skyline.config;
+
+import com.example.skyline.controller.FlightController;
+import com.example.skyline.controller.ReservationController;
+import com.example.skyline.dto.CompactFlightList;
+import com.example.skyline.dto.CompactReservationList;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.Reservation;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+
+// Accept: application/vnd.skyline.compact+json 요청 시 목록 응답을 공항/항공편 중복 제거 형태로 변환
+@ControllerAdvice(assignableTypes = {FlightController.class, ReservationController.class})
+public class CompactResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof List<?> list) || !ApiMediaTypes.COMPACT_JSON.includes(selectedContentType)) {
+            return body;
+        }
+
+        Class<?> controller = returnType.getContainingClass();
+        if (FlightController.class.isAssignableFrom(controller)) {
+            return CompactFlightList.from((List<Flight>) list);
+        }
+        if (ReservationController.class.isAssignableFrom(controller)) {
+            return CompactReservationList.from((List<Reservation>) list);
+        }
+        return body;
+    }
+}
@@ -1,35 +1,40 @@
 package com.example.skyline.config; // ❗️ 이 부분은 실제 프로젝트의 패키지 경로에 맞게 수정하세요.
 
+import com.example.skyline.web.StaticAssetHandler;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
 
-import java.io.IOException;
+import java.util.Map;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry
-            .addResourceHandler("/**") // 모든 요청 경로에 대해
-            .addResourceLocations("classpath:/static/") // static 폴더에서 리소스를 찾음
-            .resourceChain(true)
-            .addResolver(new PathResourceResolver() {
-                @Override
-                protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                    Resource requestedResource = location.createRelative(resourcePath);
-                    // 요청된 리소스가 존재하면 그대로 반환, 없으면 index.html을 반환하여
-                    // React Router가 클라이언트 사이드에서 라우팅을 처리하도록 함
-                    if (requestedResource.exists() && requestedResource.isReadable()) {
-                        return requestedResource;
-                    } else {
-                        return new ClassPathResource("/static/index.html");
-                    }
-                }
-            });
+    // 컨트롤러에 매칭되지 않은 모든 경로를 메모리 정적 자산 핸들러로 전달
+    // 요청마다 클래스패스를 조회하지 않고, 없는 경로는 SPA 라우트일 때만 index.html 로 응답
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetHandlerMapping(StaticAssetHandler staticAssetHandler) {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/**", staticAssetHandler));
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return mapping;
+    }
+
+    // MVC 기본 Smile/CBOR 컨버터는 스프링 부트 Jackson 설정(날짜 ISO 문자열 등)을 적용하지 않아 JSON 과 값 형태가 달라짐
+    // 부트가 구성한 빌더(프로토타입 빈)로 만들어 기본 컨버터를 대체
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
     }
 }
@@ -1,43 +1,52 @@
 package com.example.skyline.controller;
 
 import com.example.skyline.entity.Flight;
+import com.example.skyline.service.FlightQueryCoalescer;
 import com.example.skyline.service.FlightService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/flights")
+@Lazy(false)
 public class FlightController {
     
     private final FlightService flightService;
+    private final FlightQueryCoalescer coalescer;
     
     @Autowired
-    public FlightController(FlightService flightService) {
+    public FlightController(FlightService flightService, FlightQueryCoalescer coalescer) {
         this.flightService = flightService;
+        this.coalescer = coalescer;
     }
     
     @GetMapping
     public ResponseEntity<List<Flight>> getAllFlights() {
-        List<Flight> flights = flightService.getAllFlights();
+        List<Flight> flights = coalescer.execute("getAllFlights", flightService::getAllFlights);
         return ResponseEntity.ok(flights);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<Flight> getFlightById(@PathVariable Long id) {
-        Optional<Flight> flight = flightService.getFlightById(id);
+        Optional<Flight> flight = coalescer.execute("getFlightById",
+                () -> flightService.getFlightById(id), id);
         return flight.map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/number/{flightNumber}")
     public ResponseEntity<List<Flight>> getFlightsByNumber(@PathVariable String flightNumber) {
-        List<Flight> flights = flightService.getFlightsByNumber(flightNumber);
+        String number = normalizeCode(flightNumber);
+        List<Flight> flights = coalescer.execute("getFlightsByNumber",
+                () -> flightService.getFlightsByNumber(number), number);
         return ResponseEntity.ok(flights);
     }
     
@@ -46,25 +55,37 @@ public class FlightController {
             @RequestParam String from,
             @RequestParam String to,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        List<Flight> flights = flightService.searchFlights(from, to, date);
+        String departure = normalizeCode(from);
+        String arrival = normalizeCode(to);
+        List<Flight> flights = coalescer.execute("searchFlights",
+                () -> flightService.searchFlights(departure, arrival, date), departure, arrival, date);
         return ResponseEntity.ok(flights);
     }
     
     @GetMapping("/available")
     public ResponseEntity<List<Flight>> getAvailableFlights() {
-        List<Flight> flights = flightService.getAvailableFlights();
+        List<Flight> flights = coalescer.execute("getAvailableFlights", flightService::getAvailableFlights);
         return ResponseEntity.ok(flights);
     }
     
     @GetMapping("/departure/{airportCode}")
     public ResponseEntity<List<Flight>> getFlightsByDeparture(@PathVariable String airportCode) {
-        List<Flight> flights = flightService.getFlightsByDepartureAirport(airportCode);
+        String code = normalizeCode(airportCode);
+        List<Flight> flights = coalescer.execute("getFlightsByDepartureAirport",
+                () -> flightService.getFlightsByDepartureAirport(code), code);
         return ResponseEntity.ok(flights);
     }
     
     @GetMapping("/arrival/{airportCode}")
     public ResponseEntity<List<Flight>> getFlightsByArrival(@PathVariable String airportCode) {
-        List<Flight> flights = flightService.getFlightsByArrivalAirport(airportCode);
+        String code = normalizeCode(airportCode);
+        List<Flight> flights = coalescer.execute("getFlightsByArrivalAirport",
+                () -> flightService.getFlightsByArrivalAirport(code), code);
         return ResponseEntity.ok(flights);
     }
+    
+    // 공항 코드/항공편명은 대소문자·공백 차이를 같은 조회로 취급 (병합 키와 실제 조회 모두 이 값을 사용)
+    private static String normalizeCode(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
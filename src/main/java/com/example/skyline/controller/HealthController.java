@@ -1,52 +1,71 @@
 package com.example.skyline.controller;
 
+import com.example.skyline.health.HealthMonitor;
+import com.example.skyline.health.WarmupGate;
+import com.example.skyline.pricing.PricingEngine;
+import com.example.skyline.schedule.FlightScheduleCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestController
+@Lazy(false)
 public class HealthController {
     
     @Autowired
-    private DataSource dataSource;
+    private HealthMonitor healthMonitor;
+    
+    @Autowired
+    private WarmupGate warmupGate;
+    
+    @Autowired
+    private FlightScheduleCache scheduleCache;
+    
+    @Autowired
+    private PricingEngine pricingEngine;
     
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
+        // 프로브마다 커넥션을 얻지 않고 HealthMonitor 가 주기적으로 점검한 결과를 반환
+        HealthMonitor.HealthSnapshot snapshot = healthMonitor.getSnapshot();
+        
         Map<String, Object> health = new HashMap<>();
-        health.put("status", "UP");
+        health.put("status", snapshot.status().name());
         health.put("application", "Skyline");
         health.put("version", "1.0.0");
+        health.put("database", snapshot.database());
+        health.put("pool", snapshot.pool());
+        health.put("checked_at", snapshot.checkedAt().toString());
         
-        // 데이터베이스 연결 확인
-        try (Connection connection = dataSource.getConnection()) {
-            health.put("database", Map.of(
-                "status", "UP",
-                "type", "MySQL",
-                "url", connection.getMetaData().getURL()
-            ));
-        } catch (SQLException e) {
-            health.put("database", Map.of(
-                "status", "DOWN",
-                "error", e.getMessage()
-            ));
+        if (snapshot.status() == HealthMonitor.Status.DOWN) {
             return ResponseEntity.status(503).body(health);
         }
-        
         return ResponseEntity.ok(health);
     }
     
     @GetMapping("/ready")
-    public ResponseEntity<Map<String, String>> ready() {
-        Map<String, String> status = new HashMap<>();
+    public ResponseEntity<Map<String, Object>> ready() {
+        Map<String, Object> status = new HashMap<>();
+        if (!warmupGate.isReady()) {
+            status.put("status", "WARMING_UP");
+            status.put("message", "Application is warming up connection pool and caches");
+            if (warmupGate.getFailure() != null) {
+                status.put("error", warmupGate.getFailure());
+            }
+            return ResponseEntity.status(503).body(status);
+        }
+        
         status.put("status", "READY");
         status.put("message", "Application is ready to serve requests");
+        status.put("warmup_ms", warmupGate.getWarmupMillis());
+        status.put("uptime_at_ready_ms", warmupGate.getUptimeAtReadyMillis());
+        status.put("schedule_snapshot", scheduleCache.getStatus());
+        status.put("pricing", pricingEngine.getStatus());
         return ResponseEntity.ok(status);
     }
 }
\ No newline at end of file
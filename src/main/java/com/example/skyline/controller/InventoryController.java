@@ -0,0 +1,131 @@
+package com.example.skyline.controller;
+
+import com.example.skyline.config.AccessTokens;
+import com.example.skyline.inventory.ClusterMembership;
+import com.example.skyline.inventory.InventoryForwarder;
+import com.example.skyline.inventory.PendingSeatAdjustments;
+import com.example.skyline.inventory.SeatInventory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 레플리카 간 좌석 변경 전달용 내부 API. 요청을 받은 노드에서 항상 로컬로 적용
+// 샤딩 비활성화 시 모든 경로 404, 좌석 변경은 토큰(skyline.inventory.token)이 설정되고 일치할 때만 허용
+@RestController
+@RequestMapping("/internal/inventory")
+public class InventoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryController.class);
+
+    private final SeatInventory seatInventory;
+    private final ClusterMembership membership;
+    private final PendingSeatAdjustments pendingAdjustments;
+    private final String token;
+
+    @Autowired
+    public InventoryController(SeatInventory seatInventory, ClusterMembership membership,
+                               PendingSeatAdjustments pendingAdjustments,
+                               @Value("${skyline.inventory.token:}") String token) {
+        this.seatInventory = seatInventory;
+        this.membership = membership;
+        this.pendingAdjustments = pendingAdjustments;
+        this.token = token;
+        if (membership.isEnabled() && token.isEmpty()) {
+            log.warn("skyline.inventory.token 이 비어 있어 다른 레플리카의 좌석 변경 전달이 모두 거부됩니다");
+        }
+    }
+
+    @PostMapping("/{flightId}/decrease")
+    public ResponseEntity<Map<String, Object>> decrease(
+            @PathVariable Long flightId,
+            @RequestHeader(value = InventoryForwarder.TOKEN_HEADER, required = false) String requestToken,
+            @RequestHeader(value = InventoryForwarder.REQUEST_ID_HEADER, required = false) String requestId) {
+        ResponseEntity<Map<String, Object>> rejected = reject(requestToken, requestId);
+        if (rejected != null) {
+            return rejected;
+        }
+        return ResponseEntity.ok(Map.of("success", seatInventory.decrease(flightId, requestId)));
+    }
+
+    @PostMapping("/{flightId}/increase")
+    public ResponseEntity<Map<String, Object>> increase(
+            @PathVariable Long flightId,
+            @RequestParam(defaultValue = "1") int seats,
+            @RequestHeader(value = InventoryForwarder.TOKEN_HEADER, required = false) String requestToken,
+            @RequestHeader(value = InventoryForwarder.REQUEST_ID_HEADER, required = false) String requestId) {
+        ResponseEntity<Map<String, Object>> rejected = reject(requestToken, requestId);
+        if (rejected != null) {
+            return rejected;
+        }
+        if (seats <= 0) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", "seats must be positive"));
+        }
+        return ResponseEntity.ok(Map.of("success", seatInventory.increase(flightId, seats, requestId)));
+    }
+
+    // 결과를 모르는 좌석 감소(request) 무효화: 적용됐으면 좌석 반환, 아니면 이후 도착해도 적용되지 않음
+    @PostMapping("/{flightId}/void")
+    public ResponseEntity<Map<String, Object>> voidDecrease(
+            @PathVariable Long flightId,
+            @RequestParam("request") String voidedRequestId,
+            @RequestHeader(value = InventoryForwarder.TOKEN_HEADER, required = false) String requestToken,
+            @RequestHeader(value = InventoryForwarder.REQUEST_ID_HEADER, required = false) String requestId) {
+        ResponseEntity<Map<String, Object>> rejected = reject(requestToken, requestId);
+        if (rejected != null) {
+            return rejected;
+        }
+        seatInventory.voidDecrease(flightId, voidedRequestId, requestId);
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    @GetMapping("/ring")
+    public ResponseEntity<Map<String, Object>> ring() {
+        if (!membership.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> ring = new LinkedHashMap<>();
+        ring.put("sharding_enabled", membership.isEnabled());
+        ring.put("self", membership.getSelfUrl());
+        ring.put("members", membership.getMembers());
+        ring.put("owned_counters", seatInventory.getOwnedCounterCount());
+        ring.put("pending_adjustments", pendingAdjustments.getPendingCount());
+        return ResponseEntity.ok(ring);
+    }
+
+    @GetMapping("/{flightId}/owner")
+    public ResponseEntity<Map<String, Object>> owner(@PathVariable Long flightId) {
+        if (!membership.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "flight_id", flightId,
+                "owner", membership.ownerOf(flightId),
+                "self", membership.isOwner(flightId)));
+    }
+
+    private ResponseEntity<Map<String, Object>> reject(String requestToken, String requestId) {
+        if (!membership.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!AccessTokens.matches(token, requestToken)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (requestId == null || requestId.isBlank() || requestId.length() > 64) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", "request id required"));
+        }
+        return null;
+    }
+}
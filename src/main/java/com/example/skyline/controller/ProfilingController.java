@@ -0,0 +1,117 @@
+package com.example.skyline.controller;
+
+import com.example.skyline.config.AccessTokens;
+import com.example.skyline.profiling.ProfilingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.Optional;
+
+// 운영 중 JFR 프로파일링 (관리자 토큰 필요, 토큰 미설정 시 비활성화)
+@RestController
+@RequestMapping("/admin/profiling")
+public class ProfilingController {
+
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final ProfilingService profilingService;
+    private final String adminToken;
+
+    @Autowired
+    public ProfilingController(ProfilingService profilingService,
+                               @Value("${skyline.admin.token:}") String adminToken) {
+        this.profilingService = profilingService;
+        this.adminToken = adminToken;
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<Map<String, Object>> start(
+            @RequestParam(defaultValue = "60") int duration,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) throws IOException, ParseException {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(profilingService.start(duration));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "rejected", "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "rejected", "error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<Map<String, Object>> stop(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(profilingService.stop());
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(profilingService.status());
+    }
+
+    // JDK Mission Control 등으로 분석할 수 있도록 .jfr 파일을 그대로 전송
+    @GetMapping("/recording")
+    public ResponseEntity<Resource> recording(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!authorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Optional<Path> file = profilingService.getRecordingFile();
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.get().getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file.get()));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> summary(
+            @RequestParam(defaultValue = "15") int top,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) throws IOException {
+        if (!authorized(token)) {
+            return forbidden();
+        }
+        int boundedTop = Math.max(1, Math.min(top, 100));
+        return profilingService.getSummary(boundedTop)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private boolean authorized(String token) {
+        return AccessTokens.matches(adminToken, token);
+    }
+
+    private static ResponseEntity<Map<String, Object>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "admin token required (skyline.admin.token)"));
+    }
+}
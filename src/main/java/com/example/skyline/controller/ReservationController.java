@@ -1,25 +1,50 @@
 package com.example.skyline.controller;
 
+import com.example.skyline.config.AccessTokens;
+import com.example.skyline.dto.BulkCancelRequest;
+import com.example.skyline.dto.BulkUpdateRequest;
+import com.example.skyline.dto.ChangeFeed;
 import com.example.skyline.entity.Reservation;
+import com.example.skyline.inventory.InventoryUnavailableException;
+import com.example.skyline.outbox.OutboxService;
+import com.example.skyline.service.BulkJob;
+import com.example.skyline.service.ReservationBulkService;
 import com.example.skyline.service.ReservationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/reservations")
+@Lazy(false)
 public class ReservationController {
     
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+    
     private final ReservationService reservationService;
+    private final ReservationBulkService reservationBulkService;
+    private final OutboxService outboxService;
+    // 일괄 취소/수정은 다른 승객의 예약까지 바꾸므로 관리자 토큰 필요 (설정되지 않으면 항상 403)
+    private final String adminToken;
     
     @Autowired
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 ReservationBulkService reservationBulkService,
+                                 OutboxService outboxService,
+                                 @Value("${skyline.admin.token:}") String adminToken) {
         this.reservationService = reservationService;
+        this.reservationBulkService = reservationBulkService;
+        this.outboxService = outboxService;
+        this.adminToken = adminToken;
     }
     
     @GetMapping
@@ -28,6 +53,14 @@ public class ReservationController {
         return ResponseEntity.ok(reservations);
     }
     
+    // 전체 조회 폴링 대신 오프셋 이후 변경분만 조회
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeed> getChanges(@RequestParam(defaultValue = "0") Long after,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, 1000));
+        return ResponseEntity.ok(ChangeFeed.from(outboxService.getChangesAfter(after, boundedLimit), after));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<Reservation> getReservationById(@PathVariable Long id) {
         Optional<Reservation> reservation = reservationService.getReservationById(id);
@@ -74,4 +107,59 @@ public class ReservationController {
         reservationService.deleteReservation(id);
         return ResponseEntity.noContent().build();
     }
+    
+    @PatchMapping("/cancel")
+    public ResponseEntity<Map<String, Object>> cancelReservations(
+            @Valid @RequestBody BulkCancelRequest request,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!AccessTokens.matches(adminToken, token)) {
+            return forbidden();
+        }
+        int cancelled = reservationBulkService.cancelReservations(request.reservationIds());
+        return ResponseEntity.ok(Map.of("requested", request.reservationIds().size(), "cancelled", cancelled));
+    }
+    
+    @PatchMapping
+    public ResponseEntity<Map<String, Object>> updateReservations(
+            @Valid @RequestBody BulkUpdateRequest request,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!AccessTokens.matches(adminToken, token)) {
+            return forbidden();
+        }
+        int updated = reservationBulkService.updateReservations(request.updates());
+        return ResponseEntity.ok(Map.of("requested", request.updates().size(), "updated", updated));
+    }
+    
+    @PostMapping("/flight/{flightId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelReservationsByFlight(
+            @PathVariable Long flightId,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!AccessTokens.matches(adminToken, token)) {
+            return forbidden();
+        }
+        BulkJob job = reservationBulkService.cancelByFlight(flightId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reservations/jobs/" + job.getJobId()))
+                .body(job.toStatus());
+    }
+    
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJobStatus(@PathVariable String jobId) {
+        return reservationBulkService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toStatus()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    private static ResponseEntity<Map<String, Object>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "admin token required (skyline.admin.token)"));
+    }
+    
+    // 좌석 소유 노드에 연결할 수 없으면 재시도 가능한 오류로 응답
+    @ExceptionHandler(InventoryUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleInventoryUnavailable(InventoryUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("error", "inventory owner unavailable"));
+    }
 }
\ No newline at end of file
@@ -1,7 +1,18 @@
 package com.example.skyline.controller;
 
+import com.example.skyline.config.AccessTokens;
+import com.example.skyline.loadtest.LoadGenerator;
+import com.example.skyline.loadtest.LoadProfile;
+import com.example.skyline.loadtest.LoadRun;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,6 +26,71 @@ import java.util.Map;
 @RequestMapping("/stress")
 public class StressTestController {
     
+    private static final String TOKEN_HEADER = "X-Admin-Token";
+    
+    private final LoadGenerator loadGenerator;
+    private final boolean localProfile;
+    private final String adminToken;
+    
+    @Autowired
+    public StressTestController(LoadGenerator loadGenerator, Environment environment,
+                                @Value("${skyline.admin.token:}") String adminToken) {
+        this.loadGenerator = loadGenerator;
+        this.localProfile = environment.acceptsProfiles(Profiles.of("local"));
+        this.adminToken = adminToken;
+    }
+    
+    // 실제 예약을 생성하므로 local 프로필(H2)에서만 토큰 없이 허용, 그 외에는 관리자 토큰 필요
+    @PostMapping("/load")
+    public ResponseEntity<Map<String, Object>> startLoad(
+            @RequestParam(defaultValue = "100") int rate,
+            @RequestParam(defaultValue = "16") int concurrency,
+            @RequestParam(defaultValue = "30") int duration,
+            @RequestParam(defaultValue = "80") int search,
+            @RequestParam(defaultValue = "15") int book,
+            @RequestParam(defaultValue = "5") int cancel,
+            @RequestParam(defaultValue = "DIRECT") LoadProfile.Mode mode,
+            @RequestParam(defaultValue = "1") int clients,
+            @RequestParam(defaultValue = "true") boolean cleanup,
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!loadTestAllowed(token)) {
+            return forbidden();
+        }
+        LoadProfile profile = new LoadProfile(rate, concurrency, duration, search, book, cancel);
+        profile.setMode(mode);
+        profile.setClients(clients);
+        profile.setCleanup(cleanup);
+        try {
+            LoadRun run = loadGenerator.start(profile);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run.report());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("status", "rejected", "error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("status", "rejected", "error", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/load/stop")
+    public ResponseEntity<Map<String, Object>> stopLoad(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!loadTestAllowed(token)) {
+            return forbidden();
+        }
+        loadGenerator.stop();
+        return ResponseEntity.accepted().build();
+    }
+    
+    @GetMapping("/report")
+    public ResponseEntity<Map<String, Object>> loadReport(
+            @RequestHeader(value = TOKEN_HEADER, required = false) String token) {
+        if (!loadTestAllowed(token)) {
+            return forbidden();
+        }
+        return loadGenerator.getCurrentRun()
+                .map(run -> ResponseEntity.ok(run.report()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     @GetMapping("/cpu")
     public ResponseEntity<Map<String, Object>> cpuStress(@RequestParam(defaultValue = "5") int seconds) {
         Map<String, Object> response = new HashMap<>();
@@ -105,6 +181,15 @@ public class StressTestController {
         return ResponseEntity.ok(info);
     }
     
+    private boolean loadTestAllowed(String token) {
+        return localProfile || AccessTokens.matches(adminToken, token);
+    }
+    
+    private static ResponseEntity<Map<String, Object>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", "load test requires the local profile or an admin token (skyline.admin.token)"));
+    }
+    
     private boolean isPrime(int n) {
         if (n <= 1) return false;
         if (n <= 3) return true;
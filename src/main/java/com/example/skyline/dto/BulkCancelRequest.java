@@ -0,0 +1,12 @@
+package com.example.skyline.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkCancelRequest(
+        @NotEmpty(message = "취소할 예약 ID는 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 취소할 수 있습니다")
+        List<Long> reservationIds) {
+}
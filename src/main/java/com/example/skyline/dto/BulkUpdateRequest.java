@@ -0,0 +1,33 @@
+package com.example.skyline.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkUpdateRequest(
+        @NotEmpty(message = "수정할 예약 목록은 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 수정할 수 있습니다")
+        List<@Valid Change> updates) {
+
+    // PUT /api/reservations/{id} 와 같은 필드만 수정
+    public record Change(
+            @NotNull(message = "예약 ID는 필수입니다")
+            Long reservationId,
+            @NotBlank(message = "승객명은 필수입니다")
+            @Size(max = 100)
+            String passengerName,
+            @NotBlank(message = "이메일은 필수입니다")
+            @Email(message = "유효한 이메일 형식이어야 합니다")
+            @Size(max = 100)
+            String passengerEmail,
+            @Size(max = 20)
+            String passengerPhone,
+            @Size(max = 10)
+            String seatNumber) {
+    }
+}
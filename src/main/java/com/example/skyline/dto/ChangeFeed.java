@@ -0,0 +1,28 @@
+package com.example.skyline.dto;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 예약 변경 피드 응답: 다음 요청은 after=nextOffset 으로 이어서 조회. 오프셋은 릴레이가 커밋 순서로 부여한 순번
+public record ChangeFeed(List<Change> events, Long nextOffset) {
+
+    public record Change(Long offset,
+                         OutboxEvent.EventType type,
+                         Long aggregateId,
+                         Long flightId,
+                         LocalDateTime createdAt,
+                         @JsonRawValue String payload) {
+    }
+
+    public static ChangeFeed from(List<OutboxEvent> events, Long afterOffset) {
+        List<Change> changes = events.stream()
+                .map(event -> new Change(event.getSequenceNo(), event.getEventType(), event.getAggregateId(),
+                        event.getFlightId(), event.getCreatedAt(), event.getPayload()))
+                .toList();
+        Long nextOffset = events.isEmpty() ? afterOffset : events.get(events.size() - 1).getSequenceNo();
+        return new ChangeFeed(changes, nextOffset);
+    }
+}
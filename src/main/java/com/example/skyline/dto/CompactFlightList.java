@@ -0,0 +1,24 @@
+package com.example.skyline.dto;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 항공편 목록의 압축 JSON 형태: 공항은 airports 맵에 한 번만 포함
+public record CompactFlightList(Map<String, Airport> airports, List<FlightRow> flights) {
+
+    public static CompactFlightList from(List<Flight> flights) {
+        Map<String, Airport> airports = new LinkedHashMap<>();
+        List<FlightRow> rows = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            airports.putIfAbsent(flight.getDepartureAirport().getAirportCode(), flight.getDepartureAirport());
+            airports.putIfAbsent(flight.getArrivalAirport().getAirportCode(), flight.getArrivalAirport());
+            rows.add(FlightRow.from(flight));
+        }
+        return new CompactFlightList(airports, rows);
+    }
+}
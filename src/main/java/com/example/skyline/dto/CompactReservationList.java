@@ -0,0 +1,51 @@
+package com.example.skyline.dto;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.Reservation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 예약 목록의 압축 JSON 형태: 공항과 항공편은 각각 한 번만 포함하고 예약은 flightId로 참조
+public record CompactReservationList(Map<String, Airport> airports,
+                                     Map<Long, FlightRow> flights,
+                                     List<ReservationRow> reservations) {
+
+    public record ReservationRow(Long reservationId,
+                                 Long flightId,
+                                 String passengerName,
+                                 String passengerEmail,
+                                 String passengerPhone,
+                                 String seatNumber,
+                                 LocalDateTime reservationDate,
+                                 Reservation.ReservationStatus status) {
+    }
+
+    public static CompactReservationList from(List<Reservation> reservations) {
+        Map<String, Airport> airports = new LinkedHashMap<>();
+        Map<Long, FlightRow> flights = new LinkedHashMap<>();
+        List<ReservationRow> rows = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            Flight flight = reservation.getFlight();
+            if (!flights.containsKey(flight.getFlightId())) {
+                airports.putIfAbsent(flight.getDepartureAirport().getAirportCode(), flight.getDepartureAirport());
+                airports.putIfAbsent(flight.getArrivalAirport().getAirportCode(), flight.getArrivalAirport());
+                flights.put(flight.getFlightId(), FlightRow.from(flight));
+            }
+            rows.add(new ReservationRow(
+                    reservation.getReservationId(),
+                    flight.getFlightId(),
+                    reservation.getPassengerName(),
+                    reservation.getPassengerEmail(),
+                    reservation.getPassengerPhone(),
+                    reservation.getSeatNumber(),
+                    reservation.getReservationDate(),
+                    reservation.getStatus()));
+        }
+        return new CompactReservationList(airports, flights, rows);
+    }
+}
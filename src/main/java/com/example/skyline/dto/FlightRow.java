@@ -0,0 +1,35 @@
+package com.example.skyline.dto;
+
+import com.example.skyline.entity.Flight;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 공항 정보를 코드로만 참조하는 항공편 행
+public record FlightRow(Long flightId,
+                        String flightNumber,
+                        String departureAirport,
+                        String arrivalAirport,
+                        LocalDateTime departureTime,
+                        LocalDateTime arrivalTime,
+                        String aircraftType,
+                        Integer totalSeats,
+                        Integer availableSeats,
+                        BigDecimal price,
+                        BigDecimal currentPrice) {
+
+    public static FlightRow from(Flight flight) {
+        return new FlightRow(
+                flight.getFlightId(),
+                flight.getFlightNumber(),
+                flight.getDepartureAirport().getAirportCode(),
+                flight.getArrivalAirport().getAirportCode(),
+                flight.getDepartureTime(),
+                flight.getArrivalTime(),
+                flight.getAircraftType(),
+                flight.getTotalSeats(),
+                flight.getAvailableSeats(),
+                flight.getPrice(),
+                flight.getCurrentPrice());
+    }
+}
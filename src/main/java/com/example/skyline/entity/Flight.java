@@ -1,5 +1,6 @@
 package com.example.skyline.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -50,6 +51,16 @@ public class Flight {
     @Column(name = "price", nullable = false, precision = 10, scale = 2)
     @Positive(message = "가격은 0보다 커야 합니다")
     private BigDecimal price;
+    
+    // DB 가 갱신하는 수정 시각 (스케줄 스냅샷 델타 조회용, 읽기 전용)
+    // 기본값/ON UPDATE 는 스키마가 담당 (MySQL: sql/schema.sql, H2 로컬: db/local/data.sql)
+    @JsonIgnore
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // 조회 시점의 탑승률/남은 일수를 반영한 동적 운임 (저장하지 않음, PricingEngine 이 설정)
+    @Transient
+    private BigDecimal currentPrice;
 
     public Flight() {}
 
@@ -67,6 +78,16 @@ public class Flight {
         this.price = price;
     }
 
+    // 영속성 컨텍스트와 무관한 복사본 (공항은 참조 데이터라 공유). 응답마다 독립된 객체가 필요할 때 사용
+    public Flight copy() {
+        Flight copy = new Flight(flightNumber, departureAirport, arrivalAirport, departureTime, arrivalTime,
+                aircraftType, totalSeats, availableSeats, price);
+        copy.flightId = flightId;
+        copy.updatedAt = updatedAt;
+        copy.currentPrice = currentPrice;
+        return copy;
+    }
+
     // Getters and Setters
     public Long getFlightId() {
         return flightId;
@@ -147,4 +168,16 @@ public class Flight {
     public void setPrice(BigDecimal price) {
         this.price = price;
     }
+
+    public BigDecimal getCurrentPrice() {
+        return currentPrice;
+    }
+
+    public void setCurrentPrice(BigDecimal currentPrice) {
+        this.currentPrice = currentPrice;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.skyline.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 소유 레플리카가 처리한 좌석 변경 요청 기록 (재전달 멱등 처리용). 좌석 UPDATE 와 같은 트랜잭션으로 기록
+@Entity
+@Table(name = "inventory_requests")
+public class InventoryRequest implements Persistable<String> {
+    
+    @Id
+    @Column(name = "request_id", length = 64)
+    private String requestId;
+    
+    @Column(name = "flight_id", nullable = false)
+    private Long flightId;
+    
+    // 적용된 좌석 변화량: 감소 -1, 반환 +N, 0 은 적용 전에 무효화된 감소 요청
+    @Column(name = "seats", nullable = false)
+    private Integer seats;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    public InventoryRequest() {}
+    
+    public InventoryRequest(String requestId, Long flightId, Integer seats) {
+        this.requestId = requestId;
+        this.flightId = flightId;
+        this.seats = seats;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    // 항상 INSERT 로 저장해 같은 요청 ID 가 동시에 들어오면 키 충돌로 한쪽만 반영
+    @Override
+    public String getId() {
+        return requestId;
+    }
+    
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+    
+    // Getters and Setters
+    public String getRequestId() {
+        return requestId;
+    }
+    
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+    
+    public Long getFlightId() {
+        return flightId;
+    }
+    
+    public void setFlightId(Long flightId) {
+        this.flightId = flightId;
+    }
+    
+    public Integer getSeats() {
+        return seats;
+    }
+    
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.skyline.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservation_outbox")
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+    
+    // 릴레이가 커밋 순서대로 부여하는 순번 (변경 피드/싱크의 오프셋). 부여 전에는 null
+    @Column(name = "sequence_no", unique = true)
+    private Long sequenceNo;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+    
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+    
+    @Column(name = "flight_id")
+    private Long flightId;
+    
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    public enum EventType {
+        RESERVATION_CREATED,
+        RESERVATION_CANCELLED,
+        RESERVATION_DELETED,
+        RESERVATIONS_CANCELLED,
+        FLIGHT_RESERVATIONS_CANCELLED
+    }
+
+    public OutboxEvent() {}
+
+    public OutboxEvent(EventType eventType, Long aggregateId, Long flightId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.flightId = flightId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getSequenceNo() {
+        return sequenceNo;
+    }
+
+    public void setSequenceNo(Long sequenceNo) {
+        this.sequenceNo = sequenceNo;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public Long getFlightId() {
+        return flightId;
+    }
+
+    public void setFlightId(Long flightId) {
+        this.flightId = flightId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
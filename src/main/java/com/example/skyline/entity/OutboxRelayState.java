@@ -0,0 +1,42 @@
+package com.example.skyline.entity;
+
+import jakarta.persistence.*;
+
+// 아웃박스 릴레이 커서: 마지막으로 부여한 순번. 행 잠금으로 레플리카 간 순번 부여를 직렬화
+@Entity
+@Table(name = "outbox_relay_state")
+public class OutboxRelayState {
+    
+    public static final int DEFAULT_RELAY_ID = 1;
+    
+    @Id
+    @Column(name = "relay_id")
+    private Integer relayId;
+    
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+    
+    public OutboxRelayState() {}
+    
+    public OutboxRelayState(Integer relayId, Long lastSequence) {
+        this.relayId = relayId;
+        this.lastSequence = lastSequence;
+    }
+    
+    // Getters and Setters
+    public Integer getRelayId() {
+        return relayId;
+    }
+    
+    public void setRelayId(Integer relayId) {
+        this.relayId = relayId;
+    }
+    
+    public Long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public void setLastSequence(Long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
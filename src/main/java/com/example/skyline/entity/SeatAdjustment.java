@@ -0,0 +1,107 @@
+package com.example.skyline.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 다른 레플리카(소유자)에 아직 전달되지 않은 좌석 변경. 전달에 성공하면 삭제되고, 실패하면 재시도
+@Entity
+@Table(name = "seat_adjustments")
+public class SeatAdjustment {
+    
+    @Id
+    @Column(name = "request_id", length = 64)
+    private String requestId;
+    
+    @Column(name = "flight_id", nullable = false)
+    private Long flightId;
+    
+    // 반환할 좌석 수 (무효화 요청이면 0)
+    @Column(name = "seats", nullable = false)
+    private Integer seats;
+    
+    // 무효화할 좌석 감소 요청 ID: 소유자가 그 감소를 적용했다면 좌석 1개 반환, 아니면 이후에도 적용되지 않게 막음
+    @Column(name = "voids_request_id", length = 64)
+    private String voidsRequestId;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+    
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    public SeatAdjustment() {}
+    
+    public SeatAdjustment(String requestId, Long flightId, Integer seats, String voidsRequestId) {
+        this.requestId = requestId;
+        this.flightId = flightId;
+        this.seats = seats;
+        this.voidsRequestId = voidsRequestId;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+    
+    public boolean isVoid() {
+        return voidsRequestId != null;
+    }
+    
+    // Getters and Setters
+    public String getRequestId() {
+        return requestId;
+    }
+    
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+    
+    public Long getFlightId() {
+        return flightId;
+    }
+    
+    public void setFlightId(Long flightId) {
+        this.flightId = flightId;
+    }
+    
+    public Integer getSeats() {
+        return seats;
+    }
+    
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+    
+    public String getVoidsRequestId() {
+        return voidsRequestId;
+    }
+    
+    public void setVoidsRequestId(String voidsRequestId) {
+        this.voidsRequestId = voidsRequestId;
+    }
+    
+    public Integer getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+    
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.skyline.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 고정 주기로 DB/커넥션 풀 상태를 점검하고 결과를 캐시. 프로브는 캐시된 결과만 읽음
+@Component
+@Lazy(false)
+public class HealthMonitor {
+
+    public enum Status {
+        STARTING, UP, DEGRADED, DOWN
+    }
+
+    public record HealthSnapshot(Status status, Map<String, Object> database, Map<String, Object> pool,
+                                 Instant checkedAt) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(HealthMonitor.class);
+
+    private final DataSource dataSource;
+    private final long checkIntervalMs;
+    private final double saturationThreshold;
+
+    private volatile HealthSnapshot snapshot =
+            new HealthSnapshot(Status.STARTING, Map.of("status", "UNKNOWN"), Map.of(), Instant.now());
+    private volatile String databaseType = "MySQL";
+
+    @Autowired
+    public HealthMonitor(DataSource dataSource,
+                         @Value("${skyline.health.check-interval-ms:5000}") long checkIntervalMs,
+                         @Value("${skyline.health.saturation-threshold:0.8}") double saturationThreshold) {
+        this.dataSource = dataSource;
+        this.checkIntervalMs = checkIntervalMs;
+        this.saturationThreshold = saturationThreshold;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${skyline.health.check-interval-ms:5000}")
+    public void check() {
+        Map<String, Object> pool = poolStats();
+        boolean saturated = isSaturated(pool);
+
+        Map<String, Object> database = new LinkedHashMap<>();
+        Status status;
+        if (saturated && asInt(pool.get("idle")) == 0) {
+            // 풀이 포화 상태면 점검용 커넥션을 빼앗지 않고 풀 지표만으로 판단
+            database.put("status", "UNKNOWN");
+            database.put("reason", "pool saturated, connection probe skipped");
+            status = Status.DEGRADED;
+        } else {
+            status = probeDatabase(database) ? (saturated ? Status.DEGRADED : Status.UP) : Status.DOWN;
+        }
+        database.put("type", databaseType);
+        if (dataSource instanceof HikariDataSource hikari) {
+            database.put("url", hikari.getJdbcUrl());
+        }
+
+        HealthSnapshot previous = snapshot;
+        snapshot = new HealthSnapshot(status, database, pool, Instant.now());
+        if (previous.status() != status) {
+            log.info("헬스 상태 변경: {} -> {} (pool={})", previous.status(), status, pool);
+        }
+    }
+
+    public HealthSnapshot getSnapshot() {
+        HealthSnapshot current = snapshot;
+        // 점검이 주기의 3배 이상 지연되면 스케줄러 정체로 보고 DEGRADED 처리
+        if (current.status() == Status.UP
+                && current.checkedAt().plusMillis(checkIntervalMs * 3).isBefore(Instant.now())) {
+            return new HealthSnapshot(Status.DEGRADED, current.database(), current.pool(), current.checkedAt());
+        }
+        return current;
+    }
+
+    private boolean probeDatabase(Map<String, Object> database) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(2)) {
+                database.put("status", "DOWN");
+                database.put("error", "connection validation failed");
+                return false;
+            }
+            databaseType = connection.getMetaData().getDatabaseProductName();
+            database.put("status", "UP");
+            return true;
+        } catch (SQLException e) {
+            database.put("status", "DOWN");
+            database.put("error", e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, Object> poolStats() {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return pool;
+        }
+        pool.put("max", hikari.getMaximumPoolSize());
+
+        HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+        if (mxBean != null) {
+            pool.put("active", mxBean.getActiveConnections());
+            pool.put("idle", mxBean.getIdleConnections());
+            pool.put("total", mxBean.getTotalConnections());
+            pool.put("pending_threads", mxBean.getThreadsAwaitingConnection());
+        }
+        return pool;
+    }
+
+    private boolean isSaturated(Map<String, Object> pool) {
+        if (!pool.containsKey("active")) {
+            return false;
+        }
+        int active = asInt(pool.get("active"));
+        int max = asInt(pool.get("max"));
+        int pending = asInt(pool.get("pending_threads"));
+        return pending > 0 || (max > 0 && active >= max * saturationThreshold);
+    }
+
+    private static int asInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
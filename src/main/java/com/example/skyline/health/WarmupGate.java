@@ -0,0 +1,198 @@
+package com.example.skyline.health;
+
+import com.example.skyline.repository.AirportRepository;
+import com.example.skyline.repository.FlightRepository;
+import com.example.skyline.schedule.FlightScheduleCache;
+import com.example.skyline.service.FlightService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 커넥션 풀, 스케줄 스냅샷, 참조 데이터를 미리 데운 뒤에만 /ready 가 READY 를 반환하도록 하는 게이트
+// 워밍업(실패 시 재시도 포함)은 전용 스레드에서 실행하고, 프로브는 플래그만 읽음
+@Component
+@Lazy(false)
+public class WarmupGate {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupGate.class);
+
+    private static final long POOL_FILL_TIMEOUT_MS = 10_000;
+
+    private final DataSource dataSource;
+    private final AirportRepository airportRepository;
+    private final FlightService flightService;
+    private final FlightRepository flightRepository;
+    private final FlightScheduleCache scheduleCache;
+    // 설정된 노선이 없으면 데이터에서 출발 편이 많은 상위 노선을 골라 검색
+    private final List<String[]> configuredRoutes;
+    private final int topRoutes;
+    private final long snapshotTimeoutMs;
+    private final long retryIntervalMs;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+    private volatile long warmupMillis;
+    private volatile long uptimeAtReadyMillis;
+    private volatile String failure;
+
+    @Autowired
+    public WarmupGate(DataSource dataSource, AirportRepository airportRepository, FlightService flightService,
+                      FlightRepository flightRepository, FlightScheduleCache scheduleCache,
+                      @Value("${skyline.warmup.routes:}") String routes,
+                      @Value("${skyline.warmup.top-routes:5}") int topRoutes,
+                      @Value("${skyline.warmup.snapshot-timeout-ms:60000}") long snapshotTimeoutMs,
+                      @Value("${skyline.warmup.retry-interval-ms:5000}") long retryIntervalMs) {
+        this.dataSource = dataSource;
+        this.airportRepository = airportRepository;
+        this.flightService = flightService;
+        this.flightRepository = flightRepository;
+        this.scheduleCache = scheduleCache;
+        this.configuredRoutes = parseRoutes(routes);
+        this.topRoutes = topRoutes;
+        this.snapshotTimeoutMs = snapshotTimeoutMs;
+        this.retryIntervalMs = retryIntervalMs;
+    }
+
+    // "ICN-NRT,GMP-CJU" 형식
+    private static List<String[]> parseRoutes(String routes) {
+        List<String[]> parsed = new ArrayList<>();
+        for (String entry : routes.split(",")) {
+            String value = entry.trim().toUpperCase(Locale.ROOT);
+            if (value.isEmpty()) {
+                continue;
+            }
+            String[] airports = value.split("-");
+            if (airports.length != 2 || airports[0].isBlank() || airports[1].isBlank()) {
+                throw new IllegalArgumentException("잘못된 워밍업 노선: " + entry + " (예: ICN-NRT)");
+            }
+            parsed.add(new String[] {airports[0].trim(), airports[1].trim()});
+        }
+        return parsed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmUp() {
+        executor.execute(this::warmUp);
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            warmConnectionPool();
+            awaitScheduleSnapshot();
+            warmReferenceData();
+            warmupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            uptimeAtReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            failure = null;
+            ready = true;
+            log.info("워밍업 완료: {}ms (JVM 기동 후 {}ms)", warmupMillis, uptimeAtReadyMillis);
+        } catch (RuntimeException | SQLException e) {
+            failure = e.getMessage();
+            log.warn("워밍업 실패, {}ms 후 재시도합니다", retryIntervalMs, e);
+            executor.schedule(this::warmUp, retryIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void warmConnectionPool() throws SQLException {
+        // 첫 커넥션 획득 시 Hikari 풀이 시작되고 minimum-idle 까지 백그라운드로 채워짐
+        try (Connection connection = dataSource.getConnection()) {
+            connection.isValid(2);
+        }
+
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        long deadline = System.currentTimeMillis() + POOL_FILL_TIMEOUT_MS;
+        while (pool != null && pool.getTotalConnections() < hikari.getMinimumIdle()
+                && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 스냅샷 매핑 전에 READY 가 되면 첫 검색들이 DB 로 몰리므로 기동 시 로딩 시도가 끝날 때까지 대기
+    // (로딩 실패 시에는 DB 조회로 응답하므로 대기만 끝나면 통과)
+    private void awaitScheduleSnapshot() {
+        try {
+            if (!scheduleCache.awaitLoad(snapshotTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("스케줄 스냅샷 로딩이 " + snapshotTimeoutMs + "ms 안에 끝나지 않았습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스케줄 스냅샷 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private void warmReferenceData() {
+        // 공항 참조 데이터와 주요 조회 쿼리 플랜 캐시, 지연 초기화된 빈을 미리 로딩
+        airportRepository.findAll();
+        flightService.getAvailableFlights();
+        for (WarmupRoute route : warmupRoutes()) {
+            flightService.searchFlights(route.departure(), route.arrival(), route.firstDeparture().toLocalDate());
+        }
+    }
+
+    List<WarmupRoute> warmupRoutes() {
+        if (!configuredRoutes.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            return configuredRoutes.stream()
+                    .map(route -> new WarmupRoute(route[0], route[1], today.atStartOfDay()))
+                    .toList();
+        }
+        if (topRoutes <= 0) {
+            return List.of();
+        }
+        return flightRepository.findBusiestRoutes(LocalDate.now().atStartOfDay(), PageRequest.of(0, topRoutes));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    public long getUptimeAtReadyMillis() {
+        return uptimeAtReadyMillis;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
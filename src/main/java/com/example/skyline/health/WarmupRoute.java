@@ -0,0 +1,7 @@
+package com.example.skyline.health;
+
+import java.time.LocalDateTime;
+
+// 워밍업 검색 대상 노선 (firstDeparture: 해당 노선의 가장 이른 출발 시각, 검색 날짜로 사용)
+public record WarmupRoute(String departure, String arrival, LocalDateTime firstDeparture) {
+}
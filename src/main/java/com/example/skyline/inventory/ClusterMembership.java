@@ -0,0 +1,123 @@
+package com.example.skyline.inventory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 정적 멤버 목록(skyline.inventory.members) 또는 파일(members-file)로 구성되는 인벤토리 클러스터 멤버십
+@Component
+public class ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private final boolean enabled;
+    private final String selfUrl;
+    private final String staticMembers;
+    private final String membersFile;
+    private final int virtualNodes;
+    private final List<Consumer<ConsistentHashRing>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile ConsistentHashRing ring;
+
+    @Autowired
+    public ClusterMembership(@Value("${skyline.inventory.sharding-enabled:false}") boolean enabled,
+                             @Value("${skyline.inventory.self-url:http://localhost:${server.port:8080}}") String selfUrl,
+                             @Value("${skyline.inventory.members:}") String staticMembers,
+                             @Value("${skyline.inventory.members-file:}") String membersFile,
+                             @Value("${skyline.inventory.virtual-nodes:128}") int virtualNodes) {
+        this.enabled = enabled;
+        this.selfUrl = normalize(selfUrl);
+        this.staticMembers = staticMembers;
+        this.membersFile = membersFile;
+        this.virtualNodes = virtualNodes;
+        this.ring = new ConsistentHashRing(loadMembers(), virtualNodes);
+        if (enabled) {
+            log.info("인벤토리 샤딩 활성화: self={}, members={}", this.selfUrl, ring.getMembers());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    public String ownerOf(Long flightId) {
+        return ring.ownerOf(flightId);
+    }
+
+    public boolean isOwner(Long flightId) {
+        return selfUrl.equals(ownerOf(flightId));
+    }
+
+    public List<String> getMembers() {
+        return ring.getMembers();
+    }
+
+    public void addListener(Consumer<ConsistentHashRing> listener) {
+        listeners.add(listener);
+    }
+
+    // 멤버 파일 변경 감지 후 링 재구성 및 리밸런싱 통지
+    @Scheduled(fixedDelayString = "${skyline.inventory.members-reload-ms:10000}")
+    public void reload() {
+        if (!enabled || membersFile.isBlank()) {
+            return;
+        }
+        List<String> members = loadMembers();
+        if (members.equals(ring.getMembers())) {
+            return;
+        }
+        ConsistentHashRing updated = new ConsistentHashRing(members, virtualNodes);
+        ring = updated;
+        log.info("인벤토리 클러스터 멤버 변경: {}", members);
+        listeners.forEach(listener -> listener.accept(updated));
+    }
+
+    private List<String> loadMembers() {
+        List<String> members = new ArrayList<>();
+        if (!membersFile.isBlank()) {
+            Path path = Paths.get(membersFile);
+            try {
+                Files.readAllLines(path).forEach(line -> addMember(members, line));
+            } catch (IOException e) {
+                log.warn("멤버 파일을 읽을 수 없습니다: {} ({})", path, e.getMessage());
+                return ring != null ? ring.getMembers() : List.of(selfUrl);
+            }
+        } else {
+            Arrays.stream(staticMembers.split(",")).forEach(member -> addMember(members, member));
+        }
+        if (members.isEmpty()) {
+            members.add(selfUrl); // 단일 노드
+        }
+        members.sort(String::compareTo);
+        return members;
+    }
+
+    private static void addMember(List<String> members, String raw) {
+        String member = normalize(raw);
+        if (!member.isEmpty() && !member.startsWith("#") && !members.contains(member)) {
+            members.add(member);
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.skyline.inventory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Map;
+
+// 소유자가 아닌 레플리카에서 좌석 변경 요청을 소유자에게 HTTP 로 전달
+@Component
+public class InventoryForwarder {
+
+    public static final String TOKEN_HEADER = "X-Inventory-Token";
+    // 재전달 시 소유자가 한 번만 반영하도록 붙이는 요청 ID
+    public static final String REQUEST_ID_HEADER = "X-Inventory-Request-Id";
+
+    private final RestClient restClient;
+    private final String token;
+
+    @Autowired
+    public InventoryForwarder(@Value("${skyline.inventory.forward-timeout-ms:2000}") int timeoutMs,
+                              @Value("${skyline.inventory.token:}") String token) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.token = token;
+    }
+
+    public boolean decrease(String owner, Long flightId, String requestId) {
+        return post(owner + "/internal/inventory/" + flightId + "/decrease", requestId);
+    }
+
+    public boolean increase(String owner, Long flightId, int seats, String requestId) {
+        return post(owner + "/internal/inventory/" + flightId + "/increase?seats=" + seats, requestId);
+    }
+
+    public boolean voidDecrease(String owner, Long flightId, String voidedRequestId, String requestId) {
+        return post(owner + "/internal/inventory/" + flightId + "/void?request=" + voidedRequestId, requestId);
+    }
+
+    private boolean post(String uri, String requestId) {
+        try {
+            Map<?, ?> body = restClient.post()
+                    .uri(uri)
+                    .header(TOKEN_HEADER, token)
+                    .header(REQUEST_ID_HEADER, requestId)
+                    .retrieve()
+                    .body(Map.class);
+            return body != null && Boolean.TRUE.equals(body.get("success"));
+        } catch (RestClientException e) {
+            throw new InventoryUnavailableException("좌석 소유 노드 호출 실패: " + uri, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.skyline.inventory;
+
+public class InventoryUnavailableException extends RuntimeException {
+
+    public InventoryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
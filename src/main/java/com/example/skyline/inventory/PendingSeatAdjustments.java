@@ -0,0 +1,134 @@
+package com.example.skyline.inventory;
+
+import com.example.skyline.entity.SeatAdjustment;
+import com.example.skyline.repository.InventoryRequestRepository;
+import com.example.skyline.repository.SeatAdjustmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 소유 레플리카로 보낼 좌석 반환/감소 무효화를 DB 에 먼저 기록하고 전달될 때까지 재시도
+// 전달 결과를 모르는 경우(타임아웃)에도 같은 요청 ID 로 다시 보내며, 소유자는 요청 ID 로 한 번만 반영
+@Component
+public class PendingSeatAdjustments {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingSeatAdjustments.class);
+
+    private static final int RETRY_BATCH_SIZE = 100;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final SeatAdjustmentRepository adjustmentRepository;
+    private final InventoryRequestRepository requestRepository;
+    private final ClusterMembership membership;
+    private final SeatInventory seatInventory;
+    private final InventoryForwarder forwarder;
+    // 호출자 트랜잭션에 참여 (예약 변경과 함께 커밋)
+    private final TransactionTemplate joinTemplate;
+    // 호출자 트랜잭션과 무관하게 커밋 (롤백/커밋 이후 처리용)
+    private final TransactionTemplate newTemplate;
+    private final long requestRetentionHours;
+
+    @Autowired
+    public PendingSeatAdjustments(SeatAdjustmentRepository adjustmentRepository,
+                                  InventoryRequestRepository requestRepository,
+                                  ClusterMembership membership,
+                                  SeatInventory seatInventory,
+                                  InventoryForwarder forwarder,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${skyline.inventory.request-retention-hours:24}") long requestRetentionHours) {
+        this.adjustmentRepository = adjustmentRepository;
+        this.requestRepository = requestRepository;
+        this.membership = membership;
+        this.seatInventory = seatInventory;
+        this.forwarder = forwarder;
+        this.joinTemplate = new TransactionTemplate(transactionManager);
+        this.newTemplate = new TransactionTemplate(transactionManager);
+        this.newTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.requestRetentionHours = requestRetentionHours;
+    }
+
+    // 좌석 반환 기록 (호출자 트랜잭션이 있으면 같은 트랜잭션으로 기록되어 롤백 시 함께 사라짐)
+    public SeatAdjustment recordIncrease(Long flightId, int seats) {
+        SeatAdjustment adjustment = new SeatAdjustment(UUID.randomUUID().toString(), flightId, seats, null);
+        return joinTemplate.execute(status -> adjustmentRepository.save(adjustment));
+    }
+
+    // 좌석 감소 요청 무효화 기록. 호출자 트랜잭션은 롤백되므로 별도 트랜잭션으로 커밋
+    public SeatAdjustment recordVoid(Long flightId, String voidedRequestId) {
+        SeatAdjustment adjustment = new SeatAdjustment(voidedRequestId + ":void", flightId, 0, voidedRequestId);
+        return newTemplate.execute(status -> adjustmentRepository.save(adjustment));
+    }
+
+    // 한 번 전달 시도: 성공하면 기록 삭제, 실패하면 다음 시도 시각을 늦춤 (백오프)
+    public boolean deliver(SeatAdjustment adjustment) {
+        try {
+            String owner = membership.ownerOf(adjustment.getFlightId());
+            boolean local = owner.equals(membership.getSelfUrl());
+            if (adjustment.isVoid()) {
+                if (local) {
+                    seatInventory.voidDecrease(adjustment.getFlightId(), adjustment.getVoidsRequestId(),
+                            adjustment.getRequestId());
+                } else {
+                    forwarder.voidDecrease(owner, adjustment.getFlightId(), adjustment.getVoidsRequestId(),
+                            adjustment.getRequestId());
+                }
+            } else if (local) {
+                seatInventory.increase(adjustment.getFlightId(), adjustment.getSeats(), adjustment.getRequestId());
+            } else {
+                forwarder.increase(owner, adjustment.getFlightId(), adjustment.getSeats(), adjustment.getRequestId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("좌석 변경 전달 실패, 재시도 예정 (requestId={}, flightId={}): {}",
+                    adjustment.getRequestId(), adjustment.getFlightId(), e.getMessage());
+            newTemplate.executeWithoutResult(status -> adjustmentRepository.findById(adjustment.getRequestId())
+                    .ifPresent(pending -> {
+                        int attempts = pending.getAttempts() + 1;
+                        pending.setAttempts(attempts);
+                        pending.setNextAttemptAt(LocalDateTime.now()
+                                .plusSeconds(Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 16))));
+                    }));
+            return false;
+        }
+        newTemplate.executeWithoutResult(status -> adjustmentRepository.deleteById(adjustment.getRequestId()));
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${skyline.inventory.retry-interval-ms:5000}")
+    public void retryPending() {
+        if (!membership.isEnabled()) {
+            return;
+        }
+        List<SeatAdjustment> due = adjustmentRepository.findDue(LocalDateTime.now(), PageRequest.of(0, RETRY_BATCH_SIZE));
+        for (SeatAdjustment adjustment : due) {
+            deliver(adjustment);
+        }
+    }
+
+    // 보관 기간이 지난 처리 기록 삭제 (이보다 늦게 도착한 재전달은 중복 반영될 수 있음)
+    @Scheduled(fixedDelayString = "${skyline.inventory.request-purge-interval-ms:3600000}")
+    public void purgeProcessedRequests() {
+        if (!membership.isEnabled()) {
+            return;
+        }
+        Integer deleted = newTemplate.execute(status ->
+                requestRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(requestRetentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("좌석 변경 요청 기록 {}건 삭제", deleted);
+        }
+    }
+
+    public long getPendingCount() {
+        return adjustmentRepository.count();
+    }
+}
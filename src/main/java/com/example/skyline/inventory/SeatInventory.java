@@ -0,0 +1,182 @@
+package com.example.skyline.inventory;
+
+import com.example.skyline.entity.InventoryRequest;
+import com.example.skyline.repository.FlightRepository;
+import com.example.skyline.repository.InventoryRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 소유한 항공편의 좌석 카운터를 메모리에 유지하고, 좌석 변경은 조건부 UPDATE 로 DB 에 즉시 반영(write-through)
+// 카운터는 DB 접근 없이 매진을 판단하기 위한 힌트이며 커밋 후에만 갱신됨
+// 다른 레플리카가 전달한 요청은 요청 ID 를 좌석 UPDATE 와 같은 트랜잭션으로 기록해 재전달돼도 한 번만 반영
+@Component
+public class SeatInventory {
+
+    private static final long RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final class Counter {
+        private int available;
+        private boolean exists;
+        private long loadedAtNanos;
+
+        private synchronized void adjust(int delta) {
+            available = Math.max(0, available + delta);
+        }
+
+        private synchronized void invalidate() {
+            loadedAtNanos = 0;
+        }
+    }
+
+    private final FlightRepository flightRepository;
+    private final InventoryRequestRepository requestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SeatInventory(FlightRepository flightRepository, InventoryRequestRepository requestRepository,
+                         PlatformTransactionManager transactionManager, ClusterMembership membership) {
+        this.flightRepository = flightRepository;
+        this.requestRepository = requestRepository;
+        // 호출자 트랜잭션이 있으면 참여하고, 없으면(전달받은 요청) 새 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        membership.addListener(ring -> rebalance(membership));
+    }
+
+    public boolean decrease(Long flightId) {
+        return decrease(flightId, null);
+    }
+
+    // requestId 가 있으면(전달받은 요청) 이미 처리했거나 무효화된 요청인지 먼저 확인
+    public boolean decrease(Long flightId, String requestId) {
+        if (requestId != null) {
+            Optional<InventoryRequest> previous = requestRepository.findById(requestId);
+            if (previous.isPresent()) {
+                return previous.get().getSeats() < 0;
+            }
+        }
+        Counter counter = counters.computeIfAbsent(flightId, id -> new Counter());
+        if (!hasSeats(flightId, counter)) {
+            return false; // DB 접근 없이 매진 응답
+        }
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                int rows = flightRepository.decrementAvailableSeat(flightId);
+                if (rows > 0) {
+                    record(requestId, flightId, -1);
+                    afterCommit(() -> counter.adjust(-1));
+                }
+                return rows;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (requestId == null) {
+                throw e;
+            }
+            // 같은 요청(또는 그 무효화)이 먼저 기록됨: 이 시도는 롤백되고 기록된 결과를 따름
+            return requestRepository.findById(requestId).map(request -> request.getSeats() < 0).orElse(false);
+        }
+        if (updated == null || updated == 0) {
+            counter.invalidate();
+            return false;
+        }
+        return true;
+    }
+
+    public boolean increase(Long flightId, int seats) {
+        return increase(flightId, seats, null);
+    }
+
+    public boolean increase(Long flightId, int seats, String requestId) {
+        if (requestId != null && requestRepository.existsById(requestId)) {
+            return true; // 재전달
+        }
+        Counter counter = counters.computeIfAbsent(flightId, id -> new Counter());
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                int rows = flightRepository.increaseAvailableSeatsBy(flightId, seats);
+                record(requestId, flightId, seats);
+                // 총 좌석수 상한이 적용되므로 커밋 후 DB 값을 다시 읽도록 무효화
+                afterCommit(counter::invalidate);
+                return rows;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (requestId == null) {
+                throw e;
+            }
+            return true; // 같은 요청이 동시에 먼저 반영됨
+        }
+        return updated != null && updated > 0;
+    }
+
+    // 결과를 모르는 좌석 감소 요청 무효화: 이미 적용됐으면 좌석 1개 반환, 아니면 이후에 도착해도 적용되지 않도록 먼저 기록
+    public void voidDecrease(Long flightId, String voidedRequestId, String requestId) {
+        if (requestRepository.existsById(requestId)) {
+            return;
+        }
+        Optional<InventoryRequest> voided = requestRepository.findById(voidedRequestId);
+        if (voided.isEmpty()) {
+            try {
+                transactionTemplate.execute(status -> {
+                    record(voidedRequestId, flightId, 0);
+                    return null;
+                });
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 감소 요청이 방금 적용됨
+                voided = requestRepository.findById(voidedRequestId);
+            }
+        }
+        if (voided.isPresent() && voided.get().getSeats() < 0) {
+            increase(flightId, -voided.get().getSeats(), requestId);
+        }
+    }
+
+    public int getOwnedCounterCount() {
+        return counters.size();
+    }
+
+    private boolean hasSeats(Long flightId, Counter counter) {
+        synchronized (counter) {
+            long now = System.nanoTime();
+            if (counter.loadedAtNanos == 0
+                    || (counter.available <= 0 && now - counter.loadedAtNanos > RELOAD_INTERVAL_NANOS)) {
+                Integer available = flightRepository.findAvailableSeats(flightId);
+                counter.exists = available != null;
+                counter.available = available == null ? 0 : available;
+                counter.loadedAtNanos = now;
+            }
+            return counter.exists && counter.available > 0;
+        }
+    }
+
+    // 더 이상 소유하지 않는 항공편 카운터 제거 (write-through 이므로 플러시할 내용 없음)
+    private void rebalance(ClusterMembership membership) {
+        counters.keySet().removeIf(flightId -> !membership.isOwner(flightId));
+    }
+
+    private void record(String requestId, Long flightId, int seats) {
+        if (requestId != null) {
+            requestRepository.saveAndFlush(new InventoryRequest(requestId, flightId, seats));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.skyline.inventory;
+
+import com.example.skyline.entity.SeatAdjustment;
+import com.example.skyline.service.FlightService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+// 좌석 변경을 항공편 소유 레플리카로 라우팅. 샤딩 비활성화 시 기존 FlightService 경로 그대로 사용
+// 원격 좌석 반환과 감소 보상은 PendingSeatAdjustments 에 먼저 기록되어 전달될 때까지 재시도됨
+@Component
+public class SeatInventoryRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryRouter.class);
+
+    private final ClusterMembership membership;
+    private final SeatInventory seatInventory;
+    private final InventoryForwarder forwarder;
+    private final FlightService flightService;
+    private final PendingSeatAdjustments pendingAdjustments;
+
+    @Autowired
+    public SeatInventoryRouter(ClusterMembership membership, SeatInventory seatInventory,
+                               InventoryForwarder forwarder, FlightService flightService,
+                               PendingSeatAdjustments pendingAdjustments) {
+        this.membership = membership;
+        this.seatInventory = seatInventory;
+        this.forwarder = forwarder;
+        this.flightService = flightService;
+        this.pendingAdjustments = pendingAdjustments;
+    }
+
+    public boolean decrease(Long flightId) {
+        if (!membership.isEnabled()) {
+            return flightService.decreaseAvailableSeats(flightId);
+        }
+        String owner = membership.ownerOf(flightId);
+        if (owner.equals(membership.getSelfUrl())) {
+            return seatInventory.decrease(flightId);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        boolean decreased;
+        try {
+            decreased = forwarder.decrease(owner, flightId, requestId);
+        } catch (InventoryUnavailableException e) {
+            // 타임아웃이면 소유 노드에서 커밋됐을 수 있음: 적용됐다면 되돌리고 아니면 이후에도 적용되지 않게 무효화
+            voidDecrease(flightId, requestId);
+            throw e;
+        }
+        if (decreased && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 소유 노드에서는 이미 커밋됨: 이쪽 트랜잭션이 롤백되면 좌석을 돌려줌
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        voidDecrease(flightId, requestId);
+                    }
+                }
+            });
+        }
+        return decreased;
+    }
+
+    public void increase(Long flightId, int seats) {
+        if (seats <= 0) {
+            return;
+        }
+        if (!membership.isEnabled()) {
+            if (seats == 1) {
+                flightService.increaseAvailableSeats(flightId);
+            } else {
+                flightService.increaseAvailableSeats(flightId, seats);
+            }
+            return;
+        }
+        String owner = membership.ownerOf(flightId);
+        if (owner.equals(membership.getSelfUrl())) {
+            seatInventory.increase(flightId, seats);
+            return;
+        }
+
+        // 반환할 좌석을 이쪽 트랜잭션에 함께 기록하고, 커밋 후 전달 (실패하면 재시도 작업이 다시 보냄)
+        SeatAdjustment adjustment = pendingAdjustments.recordIncrease(flightId, seats);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingAdjustments.deliver(adjustment);
+                }
+            });
+        } else {
+            pendingAdjustments.deliver(adjustment);
+        }
+    }
+
+    private void voidDecrease(Long flightId, String requestId) {
+        try {
+            pendingAdjustments.deliver(pendingAdjustments.recordVoid(flightId, requestId));
+        } catch (RuntimeException e) {
+            // 기록조차 못 하면 복구 수단이 없으므로 운영자가 처리할 수 있도록 요청 ID 를 남김
+            log.error("좌석 감소 무효화 기록 실패 (flightId={}, requestId={}): {}", flightId, requestId, e.getMessage());
+        }
+    }
+}
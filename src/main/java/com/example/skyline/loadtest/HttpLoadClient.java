@@ -0,0 +1,75 @@
+package com.example.skyline.loadtest;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// HTTP 모드 부하 생성: 로컬 서버의 /api 를 호출해 필터 체인(부하 차단, 압축 등)까지 측정
+class HttpLoadClient {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final RestClient restClient;
+
+    HttpLoadClient(String baseUrl, Duration timeout) {
+        // PATCH 를 지원하는 JDK HttpClient 사용
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(timeout).build());
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = RestClient.builder().baseUrl(baseUrl).requestFactory(requestFactory).build();
+    }
+
+    LoadRun.Outcome search(String client, String from, String to, LocalDate date) {
+        return restClient.get()
+                .uri("/api/flights/search?from={from}&to={to}&date={date}", from, to, date)
+                .header(CLIENT_HEADER, client)
+                .exchange((request, response) -> classify(response.getStatusCode()));
+    }
+
+    LoadRun.Outcome book(String client, Long flightId, long sequence, Consumer<Long> onBooked) {
+        Map<String, Object> body = Map.of(
+                "flight", Map.of("flightId", flightId),
+                "passengerName", "Load Test " + sequence,
+                "passengerEmail", "loadtest+" + sequence + "@example.com");
+        return restClient.post()
+                .uri("/api/reservations")
+                .header(CLIENT_HEADER, client)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .exchange((request, response) -> {
+                    LoadRun.Outcome outcome = classify(response.getStatusCode());
+                    if (outcome == LoadRun.Outcome.OK) {
+                        Map<?, ?> created = response.bodyTo(Map.class);
+                        if (created != null && created.get("reservationId") instanceof Number id) {
+                            onBooked.accept(id.longValue());
+                        }
+                    }
+                    return outcome;
+                });
+    }
+
+    LoadRun.Outcome cancel(String client, Long reservationId) {
+        return restClient.patch()
+                .uri("/api/reservations/{id}/cancel", reservationId)
+                .header(CLIENT_HEADER, client)
+                .exchange((request, response) -> classify(response.getStatusCode()));
+    }
+
+    private static LoadRun.Outcome classify(HttpStatusCode status) {
+        if (status.is2xxSuccessful()) {
+            return LoadRun.Outcome.OK;
+        }
+        if (status.value() == 429 || status.value() == 503) {
+            return LoadRun.Outcome.SHED;
+        }
+        // 매진(400), 없는 예약(404) 등
+        return status.is4xxClientError() ? LoadRun.Outcome.REJECTED : LoadRun.Outcome.ERROR;
+    }
+}
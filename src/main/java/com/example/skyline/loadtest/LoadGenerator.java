@@ -0,0 +1,260 @@
+package com.example.skyline.loadtest;
+
+import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.Reservation;
+import com.example.skyline.service.FlightService;
+import com.example.skyline.service.ReservationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// 검색/예약/취소 트래픽을 고정 도착률(open-loop)로 서비스 계층 또는 로컬 HTTP API 에 재생하는 부하 생성기
+@Component
+public class LoadGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private final FlightService flightService;
+    private final ReservationService reservationService;
+    private final Environment environment;
+
+    private volatile LoadRun currentRun;
+    private volatile HttpLoadClient httpClient;
+
+    @Autowired
+    public LoadGenerator(FlightService flightService, ReservationService reservationService,
+                         Environment environment) {
+        this.flightService = flightService;
+        this.reservationService = reservationService;
+        this.environment = environment;
+    }
+
+    public synchronized LoadRun start(LoadProfile profile) {
+        profile.validate();
+        if (currentRun != null && currentRun.isRunning()) {
+            throw new IllegalStateException("이미 실행 중인 부하 테스트가 있습니다");
+        }
+
+        List<Flight> flights = flightService.getAllFlights();
+        if (flights.isEmpty()) {
+            throw new IllegalStateException("부하 테스트에 사용할 항공편이 없습니다");
+        }
+
+        if (profile.getMode() == LoadProfile.Mode.HTTP && httpClient == null) {
+            String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
+            httpClient = new HttpLoadClient("http://localhost:" + port, Duration.ofSeconds(30));
+        }
+
+        LoadRun run = new LoadRun(profile, flights);
+        currentRun = run;
+
+        Thread driver = new Thread(() -> drive(run), "load-generator");
+        driver.setDaemon(true);
+        driver.start();
+        return run;
+    }
+
+    public void stop() {
+        LoadRun run = currentRun;
+        if (run != null) {
+            run.requestStop();
+        }
+    }
+
+    public Optional<LoadRun> getCurrentRun() {
+        return Optional.ofNullable(currentRun);
+    }
+
+    private void drive(LoadRun run) {
+        LoadProfile profile = run.getProfile();
+        // 대기열은 최대 1초 분량(초당 요청 수)까지만 허용. 넘치면 발사하지 않고 dropped 로 집계해
+        // 대상이 느려질 때 대기열과 메모리가 무한정 늘어나지 않도록 함
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(profile.getConcurrency(), profile.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(profile.getConcurrency(), profile.getRatePerSecond())),
+                workerThreadFactory(),
+                (runnable, executor) -> recordRejected(runnable));
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.getRatePerSecond();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        run.markStarted(start);
+        log.info("부하 테스트 시작: rate={}/s, concurrency={}, duration={}s",
+                profile.getRatePerSecond(), profile.getConcurrency(), profile.getDurationSeconds());
+
+        try {
+            for (long i = 0; !run.isStopRequested(); i++) {
+                // 요청별 예정 시작 시각: 응답이 늦어져도 발사 일정은 밀리지 않음
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long waitNanos;
+                while ((waitNanos = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                LoadOperation operation = profile.pick(ThreadLocalRandom.current().nextInt(profile.totalWeight()));
+                workers.execute(new ScheduledRequest(run, operation, intendedStart));
+            }
+        } finally {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(60, TimeUnit.SECONDS)) {
+                    recordDropped(workers.shutdownNow());
+                }
+            } catch (InterruptedException e) {
+                recordDropped(workers.shutdownNow());
+                Thread.currentThread().interrupt();
+            }
+            if (profile.isCleanup()) {
+                cleanUp(run);
+            }
+            run.markFinished(System.nanoTime());
+            log.info("부하 테스트 종료: {}", run.report().get("all"));
+        }
+    }
+
+    // 예정 시각 순서로 대기열에 쌓인 요청. 실행되지 못하고 버려져도 지연시간을 기록할 수 있도록 정보를 보관
+    private final class ScheduledRequest implements Runnable {
+        private final LoadRun run;
+        private final LoadOperation operation;
+        private final long intendedStartNanos;
+
+        private ScheduledRequest(LoadRun run, LoadOperation operation, long intendedStartNanos) {
+            this.run = run;
+            this.operation = operation;
+            this.intendedStartNanos = intendedStartNanos;
+        }
+
+        @Override
+        public void run() {
+            execute(run, operation, intendedStartNanos);
+        }
+    }
+
+    // 종료 대기 시간을 넘겨 버려진 요청은 가장 느린 표본이므로 누락하지 않고 타임아웃으로 기록
+    private static void recordDropped(List<Runnable> dropped) {
+        long now = System.nanoTime();
+        for (Runnable runnable : dropped) {
+            if (runnable instanceof ScheduledRequest request) {
+                request.run.record(request.operation, now - request.intendedStartNanos, LoadRun.Outcome.TIMEOUT);
+            }
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("부하 테스트 종료 시 실행되지 못한 요청 {}건을 타임아웃으로 기록했습니다", dropped.size());
+        }
+    }
+
+    // 대기열이 가득 차 발사하지 못한 요청: 응답이 없으므로 지연시간 표본에는 넣지 않고 건수만 집계
+    private static void recordRejected(Runnable runnable) {
+        if (runnable instanceof ScheduledRequest request) {
+            request.run.recordDropped(request.operation);
+        }
+    }
+
+    // 부하 테스트가 만든 예약 삭제 (확정 상태면 좌석도 반환)
+    private void cleanUp(LoadRun run) {
+        long deleted = 0;
+        Long reservationId;
+        while ((reservationId = run.pollCreatedReservation()) != null) {
+            try {
+                reservationService.deleteReservation(reservationId);
+                deleted++;
+            } catch (RuntimeException e) {
+                log.warn("부하 테스트 예약 {} 정리 실패: {}", reservationId, e.getMessage());
+            }
+        }
+        run.addCleanedUp(deleted);
+        log.info("부하 테스트 예약 {}건 정리", deleted);
+    }
+
+    private void execute(LoadRun run, LoadOperation operation, long intendedStartNanos) {
+        Long toCancel = null;
+        if (operation == LoadOperation.CANCEL) {
+            toCancel = run.pollBookedReservation();
+            if (toCancel == null) {
+                // 취소할 예약이 아직 없으면 예약으로 대체
+                operation = LoadOperation.BOOK;
+            }
+        }
+
+        LoadRun.Outcome outcome;
+        try {
+            outcome = run.getProfile().getMode() == LoadProfile.Mode.HTTP
+                    ? executeHttp(run, operation, toCancel)
+                    : switch (operation) {
+                        case SEARCH -> search(run);
+                        case BOOK -> book(run);
+                        case CANCEL -> reservationService.cancelReservation(toCancel)
+                                ? LoadRun.Outcome.OK : LoadRun.Outcome.REJECTED;
+                    };
+        } catch (RuntimeException e) {
+            log.debug("부하 테스트 요청 실패: {}", operation, e);
+            outcome = LoadRun.Outcome.ERROR;
+        }
+
+        // 실제 시작 시각이 아닌 예정 시작 시각 기준으로 측정 (coordinated omission 보정)
+        run.record(operation, System.nanoTime() - intendedStartNanos, outcome);
+    }
+
+    private LoadRun.Outcome executeHttp(LoadRun run, LoadOperation operation, Long toCancel) {
+        // 클라이언트 키를 여러 개로 나눠 클라이언트별 한도 동작을 재현
+        long sequence = run.nextPassengerSequence();
+        String client = "loadtest-" + (sequence % run.getProfile().getClients());
+        Flight flight = run.randomFlight();
+        return switch (operation) {
+            case SEARCH -> httpClient.search(client,
+                    flight.getDepartureAirport().getAirportCode(),
+                    flight.getArrivalAirport().getAirportCode(),
+                    flight.getDepartureTime().toLocalDate());
+            case BOOK -> httpClient.book(client, flight.getFlightId(), sequence, run::addBookedReservation);
+            case CANCEL -> httpClient.cancel(client, toCancel);
+        };
+    }
+
+    private LoadRun.Outcome search(LoadRun run) {
+        Flight flight = run.randomFlight();
+        flightService.searchFlights(
+                flight.getDepartureAirport().getAirportCode(),
+                flight.getArrivalAirport().getAirportCode(),
+                flight.getDepartureTime().toLocalDate());
+        return LoadRun.Outcome.OK;
+    }
+
+    private LoadRun.Outcome book(LoadRun run) {
+        Flight flightRef = new Flight();
+        flightRef.setFlightId(run.randomFlight().getFlightId());
+
+        long sequence = run.nextPassengerSequence();
+        Reservation reservation = new Reservation(flightRef, "Load Test " + sequence,
+                "loadtest+" + sequence + "@example.com", null, null);
+
+        Optional<Reservation> created = reservationService.createReservation(reservation);
+        if (created.isEmpty()) {
+            return LoadRun.Outcome.REJECTED; // 매진
+        }
+        run.addBookedReservation(created.get().getReservationId());
+        return LoadRun.Outcome.OK;
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
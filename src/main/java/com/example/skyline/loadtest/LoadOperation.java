@@ -0,0 +1,5 @@
+package com.example.skyline.loadtest;
+
+public enum LoadOperation {
+    SEARCH, BOOK, CANCEL
+}
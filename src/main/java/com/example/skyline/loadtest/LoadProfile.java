@@ -0,0 +1,140 @@
+package com.example.skyline.loadtest;
+
+// 부하 생성 설정: 초당 요청 수, 동시 실행 수, 지속 시간, 검색/예약/취소 비율, 실행 대상
+public class LoadProfile {
+
+    // DIRECT: 서비스 계층 직접 호출, HTTP: 로컬 서버의 /api 를 호출해 필터(부하 차단 등)까지 포함
+    public enum Mode {
+        DIRECT, HTTP
+    }
+
+    private int ratePerSecond = 100;
+    private int concurrency = 16;
+    private int durationSeconds = 30;
+    private int searchWeight = 80;
+    private int bookWeight = 15;
+    private int cancelWeight = 5;
+    private Mode mode = Mode.DIRECT;
+    private int clients = 1;
+    // 종료 후 부하 테스트가 만든 예약 삭제 (좌석 반환 포함)
+    private boolean cleanup = true;
+
+    public LoadProfile() {}
+
+    public LoadProfile(int ratePerSecond, int concurrency, int durationSeconds,
+                       int searchWeight, int bookWeight, int cancelWeight) {
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+        this.durationSeconds = durationSeconds;
+        this.searchWeight = searchWeight;
+        this.bookWeight = bookWeight;
+        this.cancelWeight = cancelWeight;
+    }
+
+    public void validate() {
+        if (ratePerSecond < 1 || ratePerSecond > 10_000) {
+            throw new IllegalArgumentException("rate는 1~10000 사이여야 합니다");
+        }
+        if (concurrency < 1 || concurrency > 512) {
+            throw new IllegalArgumentException("concurrency는 1~512 사이여야 합니다");
+        }
+        if (durationSeconds < 1 || durationSeconds > 3600) {
+            throw new IllegalArgumentException("duration은 1~3600초 사이여야 합니다");
+        }
+        if (clients < 1 || clients > 10_000) {
+            throw new IllegalArgumentException("clients는 1~10000 사이여야 합니다");
+        }
+        if (searchWeight < 0 || bookWeight < 0 || cancelWeight < 0
+                || searchWeight + bookWeight + cancelWeight == 0) {
+            throw new IllegalArgumentException("요청 비율은 0 이상이고 합계가 0보다 커야 합니다");
+        }
+    }
+
+    // 가중치에 따라 수행할 작업 선택 (roll: 0 이상 전체 가중치 미만)
+    public LoadOperation pick(int roll) {
+        if (roll < searchWeight) {
+            return LoadOperation.SEARCH;
+        }
+        if (roll < searchWeight + bookWeight) {
+            return LoadOperation.BOOK;
+        }
+        return LoadOperation.CANCEL;
+    }
+
+    public int totalWeight() {
+        return searchWeight + bookWeight + cancelWeight;
+    }
+
+    // Getters and Setters
+    public int getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(int ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public void setDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    public int getSearchWeight() {
+        return searchWeight;
+    }
+
+    public void setSearchWeight(int searchWeight) {
+        this.searchWeight = searchWeight;
+    }
+
+    public int getBookWeight() {
+        return bookWeight;
+    }
+
+    public void setBookWeight(int bookWeight) {
+        this.bookWeight = bookWeight;
+    }
+
+    public int getCancelWeight() {
+        return cancelWeight;
+    }
+
+    public void setCancelWeight(int cancelWeight) {
+        this.cancelWeight = cancelWeight;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public void setClients(int clients) {
+        this.clients = clients;
+    }
+
+    public boolean isCleanup() {
+        return cleanup;
+    }
+
+    public void setCleanup(boolean cleanup) {
+        this.cleanup = cleanup;
+    }
+}
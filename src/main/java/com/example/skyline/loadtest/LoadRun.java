@@ -0,0 +1,179 @@
+package com.example.skyline.loadtest;
+
+import com.example.skyline.entity.Flight;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 한 번의 부하 테스트 실행 상태와 작업별 지연시간 히스토그램
+public class LoadRun {
+
+    // REJECTED: 매진 등 업무상 거절, SHED: 429/503 부하 차단, TIMEOUT: 종료 시점까지 실행되지 못한 요청
+    public enum Outcome {
+        OK, REJECTED, SHED, ERROR, TIMEOUT
+    }
+
+    public enum State {
+        RUNNING, FINISHED, STOPPED
+    }
+
+    private final LoadProfile profile;
+    private final List<Flight> flights;
+    private final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> rejected = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> shed = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, LongAdder> timeouts = new EnumMap<>(LoadOperation.class);
+    // 작업 대기열이 가득 차 발사하지 못한 요청 (지연시간 히스토그램에는 포함되지 않음)
+    private final Map<LoadOperation, LongAdder> dropped = new EnumMap<>(LoadOperation.class);
+    private final ConcurrentLinkedQueue<Long> bookedReservationIds = new ConcurrentLinkedQueue<>();
+    // 정리 대상: 취소 여부와 관계없이 이번 실행이 만든 모든 예약
+    private final ConcurrentLinkedQueue<Long> createdReservationIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong cleanedUp = new AtomicLong();
+    private final AtomicLong passengerSequence = new AtomicLong();
+
+    private volatile State state = State.RUNNING;
+    private volatile boolean stopRequested;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    public LoadRun(LoadProfile profile, List<Flight> flights) {
+        this.profile = profile;
+        this.flights = flights;
+        for (LoadOperation operation : LoadOperation.values()) {
+            // 마이크로초 단위, 유효숫자 3자리, 범위 자동 확장
+            histograms.put(operation, new ConcurrentHistogram(3));
+            rejected.put(operation, new LongAdder());
+            shed.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+            timeouts.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(LoadOperation operation, long latencyNanos, Outcome outcome) {
+        histograms.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (outcome == Outcome.REJECTED) {
+            rejected.get(operation).increment();
+        } else if (outcome == Outcome.SHED) {
+            shed.get(operation).increment();
+        } else if (outcome == Outcome.ERROR) {
+            errors.get(operation).increment();
+        } else if (outcome == Outcome.TIMEOUT) {
+            timeouts.get(operation).increment();
+        }
+    }
+
+    public void recordDropped(LoadOperation operation) {
+        dropped.get(operation).increment();
+    }
+
+    public Flight randomFlight() {
+        return flights.get(ThreadLocalRandom.current().nextInt(flights.size()));
+    }
+
+    public long nextPassengerSequence() {
+        return passengerSequence.incrementAndGet();
+    }
+
+    public void addBookedReservation(Long reservationId) {
+        bookedReservationIds.add(reservationId);
+        createdReservationIds.add(reservationId);
+    }
+
+    public Long pollCreatedReservation() {
+        return createdReservationIds.poll();
+    }
+
+    public void addCleanedUp(long count) {
+        cleanedUp.addAndGet(count);
+    }
+
+    public Long pollBookedReservation() {
+        return bookedReservationIds.poll();
+    }
+
+    public void markStarted(long nanos) {
+        this.startNanos = nanos;
+    }
+
+    public void markFinished(long nanos) {
+        this.endNanos = nanos;
+        this.state = stopRequested ? State.STOPPED : State.FINISHED;
+    }
+
+    public void requestStop() {
+        this.stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        long end = state == State.RUNNING ? System.nanoTime() : endNanos;
+        long elapsedNanos = startNanos == 0 ? 0 : end - startNanos;
+
+        Histogram total = new Histogram(3);
+        long totalDropped = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram snapshot = histograms.get(operation).copy();
+            total.add(snapshot);
+            Map<String, Object> stats = summarize(snapshot);
+            stats.put("rejected", rejected.get(operation).sum());
+            stats.put("shed", shed.get(operation).sum());
+            stats.put("errors", errors.get(operation).sum());
+            stats.put("timeouts", timeouts.get(operation).sum());
+            stats.put("dropped", dropped.get(operation).sum());
+            totalDropped += dropped.get(operation).sum();
+            operations.put(operation.name(), stats);
+        }
+
+        report.put("status", state.name());
+        report.put("mode", profile.getMode().name());
+        report.put("target_rate_per_second", profile.getRatePerSecond());
+        report.put("concurrency", profile.getConcurrency());
+        report.put("duration_seconds", profile.getDurationSeconds());
+        report.put("elapsed_ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        report.put("throughput_per_second", elapsedNanos == 0 ? 0.0
+                : total.getTotalCount() / (elapsedNanos / 1_000_000_000.0));
+        report.put("all", summarize(total));
+        report.put("dropped", totalDropped);
+        report.put("operations", operations);
+        report.put("cleaned_up_reservations", cleanedUp.get());
+        return report;
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", histogram.getTotalCount());
+        stats.put("p50_ms", toMillis(histogram.getValueAtPercentile(50.0)));
+        stats.put("p99_ms", toMillis(histogram.getValueAtPercentile(99.0)));
+        stats.put("p999_ms", toMillis(histogram.getValueAtPercentile(99.9)));
+        stats.put("max_ms", toMillis(histogram.getMaxValue()));
+        return stats;
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.entity.OutboxRelayState;
+import com.example.skyline.inventory.ClusterMembership;
+import com.example.skyline.repository.OutboxEventRepository;
+import com.example.skyline.repository.OutboxRelayStateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 미발행 아웃박스 이벤트에 커밋 순서대로 순번을 부여한 뒤, 순번 순으로 싱크에 전달하고 발행 완료로 표시
+// eventId(AUTO_INCREMENT)는 커밋 순서와 다를 수 있어(늦게 커밋된 작은 ID) 오프셋으로 쓰지 않음
+// 순번은 릴레이 커서 행을 잠근 트랜잭션에서만 부여하므로, 이미 보인 순번 앞에 새 순번이 끼어들지 않음
+// 지연 초기화 프로필에서도 스케줄이 등록되도록 즉시 생성
+@Component
+@Lazy(false)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayStateRepository relayStateRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long retentionHours;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxRelayStateRepository relayStateRepository,
+                       OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       ClusterMembership membership,
+                       @Value("${skyline.outbox.relay-enabled:true}") boolean enabled,
+                       @Value("${skyline.outbox.allow-partial-segments:false}") boolean allowPartialSegments,
+                       @Value("${skyline.outbox.batch-size:200}") int batchSize,
+                       @Value("${skyline.outbox.retention-hours:168}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.relayStateRepository = relayStateRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        checkSingleSegmentWriter(membership, allowPartialSegments);
+    }
+
+    // 세그먼트 파일 싱크는 레플리카마다 따로 기록하므로, 여러 레플리카가 릴레이하면 각 파일에 빈 순번이 생김
+    // 멤버 구성을 알 수 있는 경우(샤딩 사용) 기동 시 거부. 알 수 없으면 싱크가 빈 순번을 감지해 경고함
+    private void checkSingleSegmentWriter(ClusterMembership membership, boolean allowPartialSegments) {
+        if (!enabled || !(sink instanceof SegmentFileOutboxSink)
+                || !membership.isEnabled() || membership.getMembers().size() <= 1) {
+            return;
+        }
+        String message = "아웃박스 세그먼트 파일 싱크는 단일 레플리카 전용입니다 (멤버 " + membership.getMembers().size()
+                + "개). 공유 싱크(@Primary OutboxSink)를 등록하거나, 한 레플리카에서만 skyline.outbox.relay-enabled=true 로 "
+                + "실행하세요";
+        if (!allowPartialSegments) {
+            throw new IllegalStateException(message);
+        }
+        log.warn("{} (skyline.outbox.allow-partial-segments=true 로 계속 진행)", message);
+    }
+
+    @Scheduled(fixedDelayString = "${skyline.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer sequenced;
+            Integer published;
+            do {
+                sequenced = transactionTemplate.execute(status -> assignSequences());
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while ((sequenced != null && sequenced == batchSize) || (published != null && published == batchSize));
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 릴레이 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    // 커서 행을 잠근 뒤 지금까지 커밋된 미부여 이벤트에 순번 부여 (커밋 후에야 피드/싱크에 노출)
+    private int assignSequences() {
+        OutboxRelayState state = lockRelayState();
+        List<OutboxEvent> events = outboxEventRepository.findUnsequenced(PageRequest.of(0, batchSize));
+        long sequence = state.getLastSequence();
+        for (OutboxEvent event : events) {
+            event.setSequenceNo(++sequence);
+        }
+        state.setLastSequence(sequence);
+        return events.size();
+    }
+
+    // 커서 행 잠금으로 레플리카 간 전달도 직렬화해 싱크에는 항상 순번 오름차순으로 기록
+    private int publishBatch() {
+        lockRelayState();
+        List<OutboxEvent> events = outboxEventRepository.findSequencedUnpublished(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(events);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Long> eventIds = events.stream().map(OutboxEvent::getEventId).toList();
+        outboxEventRepository.markPublished(eventIds, LocalDateTime.now());
+        return events.size();
+    }
+
+    // 커서 행이 없으면 기존 eventId 최댓값에서 시작 (이전 eventId 오프셋을 가진 구독자/세그먼트와 이어지도록)
+    // 여러 레플리카가 동시에 만들면 한쪽은 키 충돌로 실패하고 다음 주기에 재시도
+    private OutboxRelayState lockRelayState() {
+        return relayStateRepository.findForUpdate(OutboxRelayState.DEFAULT_RELAY_ID)
+                .orElseGet(() -> {
+                    Long maxEventId = outboxEventRepository.findMaxEventId();
+                    relayStateRepository.saveAndFlush(new OutboxRelayState(OutboxRelayState.DEFAULT_RELAY_ID,
+                            maxEventId == null ? 0L : maxEventId));
+                    return relayStateRepository.findForUpdate(OutboxRelayState.DEFAULT_RELAY_ID).orElseThrow();
+                });
+    }
+
+    // 보관 기간이 지난 발행 완료 이벤트 삭제 (변경 피드는 보관 기간 내에서만 재개 가능)
+    @Scheduled(fixedDelayString = "${skyline.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        if (!enabled) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("발행 완료 아웃박스 이벤트 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.entity.Reservation;
+import com.example.skyline.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 예약 변경 이벤트를 비즈니스 트랜잭션과 같은 트랜잭션으로 아웃박스 테이블에 기록
+@Service
+public class OutboxService {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Autowired
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReservationEvent(OutboxEvent.EventType eventType, Reservation reservation) {
+        Long flightId = reservation.getFlight().getFlightId();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("reservationId", reservation.getReservationId());
+        payload.put("flightId", flightId);
+        payload.put("passengerName", reservation.getPassengerName());
+        payload.put("passengerEmail", reservation.getPassengerEmail());
+        payload.put("seatNumber", reservation.getSeatNumber());
+        payload.put("status", reservation.getStatus());
+        record(eventType, reservation.getReservationId(), flightId, payload);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEvent.EventType eventType, Long aggregateId, Long flightId, Map<String, Object> payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(eventType, aggregateId, flightId,
+                    objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> getChangesAfter(Long afterOffset, int limit) {
+        return outboxEventRepository.findBySequenceNoGreaterThanOrderBySequenceNoAsc(
+                afterOffset, PageRequest.of(0, limit));
+    }
+}
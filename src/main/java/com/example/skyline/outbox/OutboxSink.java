@@ -0,0 +1,14 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+// 아웃박스 릴레이가 이벤트를 내보내는 대상. 다른 구현을 @Primary 빈으로 등록하면 교체됨
+public interface OutboxSink {
+
+    // sequenceNo(커밋 순서로 부여된 순번) 오름차순 배치. 같은 이벤트가 같은 순번으로 다시 전달될 수 있으므로
+    // sequenceNo 기준으로 멱등 처리해야 함 (eventId 는 커밋 순서와 다를 수 있어 오프셋으로 쓰면 안 됨)
+    void publish(List<OutboxEvent> events) throws IOException;
+}
@@ -0,0 +1,198 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 기본 싱크: 로컬 디렉터리에 추가 전용(append-only) 세그먼트 파일로 기록
+// 세그먼트 파일명은 첫 이벤트 오프셋(20자리), 각 줄은 offset 필드를 가진 JSON. 오프셋은 릴레이가 부여한 순번(sequenceNo)
+// 파일은 레플리카마다 따로 쌓이므로 완전한 로그는 릴레이가 한 레플리카일 때만 보장됨 (여러 레플리카면 각 파일에
+// 다른 레플리카가 전달한 순번이 빠짐). 레플리카 간 완전한 변경분은 아웃박스 테이블 기반 /api/reservations/changes 사용
+@Component
+public class SegmentFileOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentFileOutboxSink.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECOVERY_BLOCK_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final ObjectMapper objectMapper;
+
+    private FileChannel channel;
+    private long lastOffset;
+    // 다른 레플리카가 전달해 이 파일에 없는 순번 수
+    private long missingOffsets;
+
+    @Autowired
+    public SegmentFileOutboxSink(ObjectMapper objectMapper,
+                                 @Value("${skyline.outbox.segment-dir:./data/outbox}") String directory,
+                                 @Value("${skyline.outbox.segment-bytes:67108864}") long segmentBytes) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.segmentBytes = segmentBytes;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        ensureOpen();
+        for (OutboxEvent event : events) {
+            long offset = event.getSequenceNo();
+            if (offset <= lastOffset) {
+                continue; // 이미 기록된 오프셋 (재전달)
+            }
+            if (lastOffset > 0 && offset > lastOffset + 1) {
+                recordGap(offset);
+            }
+            if (channel == null || channel.size() >= segmentBytes) {
+                roll(offset);
+            }
+            ByteBuffer line = ByteBuffer.wrap(toLine(event));
+            while (line.hasRemaining()) {
+                channel.write(line);
+            }
+            lastOffset = offset;
+        }
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    public synchronized long getLastOffset() {
+        return lastOffset;
+    }
+
+    public synchronized long getMissingOffsets() {
+        return missingOffsets;
+    }
+
+    // 순번은 빈틈없이 부여되므로 건너뛴 순번은 다른 릴레이(레플리카)가 전달한 것
+    private void recordGap(long offset) {
+        long missing = offset - lastOffset - 1;
+        if (missingOffsets == 0) {
+            log.warn("아웃박스 세그먼트에 순번 {}~{} 이 없습니다. 다른 레플리카도 릴레이 중이면 세그먼트 파일은 "
+                    + "레플리카별로 불완전하므로 변경 피드 API 를 사용하세요", lastOffset + 1, offset - 1);
+        } else {
+            log.debug("아웃박스 세그먼트 순번 {}~{} 누락", lastOffset + 1, offset - 1);
+        }
+        missingOffsets += missing;
+    }
+
+    private byte[] toLine(OutboxEvent event) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("offset", event.getSequenceNo());
+        record.put("eventId", event.getEventId());
+        record.put("type", event.getEventType());
+        record.put("aggregateId", event.getAggregateId());
+        record.put("flightId", event.getFlightId());
+        record.put("createdAt", event.getCreatedAt());
+        record.put("payload", objectMapper.readTree(event.getPayload()));
+        return (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (channel != null) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Path latest;
+        try (Stream<Path> files = Files.list(directory)) {
+            latest = files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .max(Path::compareTo)
+                    .orElse(null);
+        }
+        if (latest != null) {
+            lastOffset = recoverLastOffset(latest);
+            channel = FileChannel.open(latest, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            log.info("아웃박스 세그먼트 재개: {} (lastOffset={})", latest, lastOffset);
+        }
+    }
+
+    private void roll(long baseOffset) throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+        }
+        Path segment = directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        log.info("아웃박스 세그먼트 생성: {}", segment);
+    }
+
+    // 마지막 완전한 줄의 offset 을 읽고, 기록 중 중단된 불완전한 줄은 잘라냄
+    // 줄 길이에 상한이 없으므로 완전한 줄을 찾을 때까지 블록 단위로 뒤에서부터 읽음
+    private long recoverLastOffset(Path segment) throws IOException {
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long end = lastNewline(file, size - 1);
+            if (end < 0) {
+                // 첫 줄도 완전히 기록되지 않음: 세그먼트는 파일명 오프셋을 기록하려다 만들어졌으므로 그 직전까지 기록됨
+                file.truncate(0);
+                String name = segment.getFileName().toString();
+                return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())) - 1;
+            }
+            if (end < size - 1) {
+                file.truncate(end + 1);
+            }
+            long start = lastNewline(file, end - 1) + 1;
+            ByteBuffer line = ByteBuffer.allocate(Math.toIntExact(end - start));
+            readFully(file, line, start);
+            return objectMapper.readTree(new String(line.array(), StandardCharsets.UTF_8)).get("offset").asLong();
+        }
+    }
+
+    // from 위치부터 앞으로 가며 마지막 줄바꿈 위치 (없으면 -1)
+    private static long lastNewline(FileChannel file, long from) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(RECOVERY_BLOCK_BYTES);
+        long blockEnd = from + 1;
+        while (blockEnd > 0) {
+            long blockStart = Math.max(0, blockEnd - RECOVERY_BLOCK_BYTES);
+            block.clear().limit((int) (blockEnd - blockStart));
+            readFully(file, block, blockStart);
+            byte[] bytes = block.array();
+            for (int i = block.position() - 1; i >= 0; i--) {
+                if (bytes[i] == '\n') {
+                    return blockStart + i;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return -1;
+    }
+
+    private static void readFully(FileChannel file, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (file.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("세그먼트 파일이 예상보다 짧습니다");
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.skyline.pricing;
+
+// 항공편 하나의 운임표: [출발까지 남은 일수 구간][탑승률 구간] 운임을 센트 단위 long 으로 미리 계산
+// 좌석 수가 바뀌어도 표는 그대로이고 조회할 칸만 달라짐. 기준 운임/총 좌석/출발 시각이 바뀌면 다시 생성
+final class FareTable {
+
+    private final long baseCents;
+    private final int totalSeats;
+    private final long departureEpochSecond;
+    private final int loadFactorBuckets;
+    private final long[] fares;
+
+    private volatile long lastUsedMillis;
+
+    private FareTable(long baseCents, int totalSeats, long departureEpochSecond,
+                      int loadFactorBuckets, long[] fares) {
+        this.baseCents = baseCents;
+        this.totalSeats = totalSeats;
+        this.departureEpochSecond = departureEpochSecond;
+        this.loadFactorBuckets = loadFactorBuckets;
+        this.fares = fares;
+    }
+
+    // 배수는 1/10000 단위 정수, 운임은 roundingCents 단위로 반올림
+    static FareTable build(long baseCents, int totalSeats, long departureEpochSecond,
+                           long[] daysMultipliers, long[] loadFactorMultipliers,
+                           long multiplierScale, long roundingCents) {
+        long[] fares = new long[daysMultipliers.length * loadFactorMultipliers.length];
+        for (int d = 0; d < daysMultipliers.length; d++) {
+            for (int l = 0; l < loadFactorMultipliers.length; l++) {
+                long fare = baseCents * loadFactorMultipliers[l] / multiplierScale
+                        * daysMultipliers[d] / multiplierScale;
+                long rounded = (fare + roundingCents / 2) / roundingCents * roundingCents;
+                fares[d * loadFactorMultipliers.length + l] = Math.max(rounded, roundingCents);
+            }
+        }
+        return new FareTable(baseCents, totalSeats, departureEpochSecond, loadFactorMultipliers.length, fares);
+    }
+
+    boolean matches(long baseCents, int totalSeats, long departureEpochSecond) {
+        return this.baseCents == baseCents && this.totalSeats == totalSeats
+                && this.departureEpochSecond == departureEpochSecond;
+    }
+
+    long fare(int daysBucket, int availableSeats) {
+        int sold = Math.min(totalSeats, Math.max(0, totalSeats - availableSeats));
+        int loadFactorBucket = Math.min(loadFactorBuckets - 1, (int) ((long) sold * loadFactorBuckets / totalSeats));
+        return fares[daysBucket * loadFactorBuckets + loadFactorBucket];
+    }
+
+    // 조회마다 volatile 쓰기가 일어나지 않도록 1초 단위로만 갱신
+    void touch(long nowMillis) {
+        if (nowMillis - lastUsedMillis > 1000) {
+            lastUsedMillis = nowMillis;
+        }
+    }
+
+    boolean isExpired(long nowEpochSecond, long nowMillis, long idleMillis) {
+        return departureEpochSecond < nowEpochSecond || nowMillis - lastUsedMillis > idleMillis;
+    }
+}
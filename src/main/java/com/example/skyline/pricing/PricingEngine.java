@@ -0,0 +1,170 @@
+package com.example.skyline.pricing;
+
+import com.example.skyline.entity.Flight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 탑승률(판매 좌석/총 좌석)과 출발까지 남은 일수에 따른 동적 운임
+// 항공편별 운임표를 처음 조회할 때 한 번 계산해 두고, 응답마다 정수 연산 두 번으로 칸을 찾아 O(1) 로 적용
+@Component
+@Lazy(false)
+public class PricingEngine {
+
+    private static final long MULTIPLIER_SCALE = 10_000;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final boolean enabled;
+    private final long[] loadFactorMultipliers;
+    private final long[] daysMultipliers;
+    // 남은 일수(0 ~ 마지막 경계-1) -> 일수 구간, 마지막 경계 이상은 마지막 구간
+    private final int[] daysBuckets;
+    private final long roundingCents;
+    private final long idleMillis;
+    private final ConcurrentHashMap<Long, FareTable> tables = new ConcurrentHashMap<>();
+    private final Timer quoteTimer;
+    private final Counter tablesBuilt;
+
+    @Autowired
+    public PricingEngine(MeterRegistry meterRegistry,
+                         @Value("${skyline.pricing.enabled:true}") boolean enabled,
+                         @Value("${skyline.pricing.load-factor-multipliers:0.85,0.9,0.95,1.0,1.0,1.05,1.15,1.3,1.5,1.8}")
+                         double[] loadFactorMultipliers,
+                         @Value("${skyline.pricing.days-to-departure-bounds:3,7,14,30,60}") int[] daysBounds,
+                         @Value("${skyline.pricing.days-to-departure-multipliers:1.4,1.25,1.1,1.0,0.95,0.9}")
+                         double[] daysMultipliers,
+                         @Value("${skyline.pricing.rounding:100}") BigDecimal rounding,
+                         @Value("${skyline.pricing.idle-eviction-minutes:60}") long idleEvictionMinutes) {
+        if (loadFactorMultipliers.length == 0) {
+            throw new IllegalArgumentException("탑승률 배수가 하나 이상 필요합니다");
+        }
+        if (daysMultipliers.length != daysBounds.length + 1) {
+            throw new IllegalArgumentException("남은 일수 배수는 구간 경계 수보다 하나 많아야 합니다");
+        }
+        for (int i = 0; i < daysBounds.length; i++) {
+            if (daysBounds[i] <= 0 || (i > 0 && daysBounds[i] <= daysBounds[i - 1])) {
+                throw new IllegalArgumentException("남은 일수 구간 경계는 양수이고 오름차순이어야 합니다");
+            }
+        }
+        this.enabled = enabled;
+        this.loadFactorMultipliers = toBasisPoints(loadFactorMultipliers);
+        this.daysMultipliers = toBasisPoints(daysMultipliers);
+        this.daysBuckets = new int[daysBounds.length == 0 ? 0 : daysBounds[daysBounds.length - 1]];
+        for (int day = 0, bucket = 0; day < daysBuckets.length; day++) {
+            while (day >= daysBounds[bucket]) {
+                bucket++;
+            }
+            daysBuckets[day] = bucket;
+        }
+        this.roundingCents = Math.max(1, toCents(rounding));
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleEvictionMinutes);
+        this.quoteTimer = Timer.builder("skyline.pricing.quote")
+                .description("응답 항공편 목록에 동적 운임을 적용하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.tablesBuilt = meterRegistry.counter("skyline.pricing.tables.built");
+        meterRegistry.gaugeMapSize("skyline.pricing.tables", Tags.empty(), tables);
+    }
+
+    // 조회 결과를 현재 운임(currentPrice)이 설정된 복사본으로 반환. 호출 시각은 목록당 한 번만 읽음
+    // 엔티티는 영속성 컨텍스트/캐시에서 다른 요청과 공유될 수 있으므로 직접 설정하지 않음 (비활성화 시 그대로 반환)
+    public List<Flight> price(List<Flight> flights) {
+        if (!enabled || flights.isEmpty()) {
+            return flights;
+        }
+        long start = System.nanoTime();
+        long nowEpochSecond = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        long nowMillis = System.currentTimeMillis();
+        List<Flight> priced = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            Flight copy = flight.copy();
+            copy.setCurrentPrice(quote(flight, nowEpochSecond, nowMillis));
+            priced.add(copy);
+        }
+        quoteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return priced;
+    }
+
+    public Flight price(Flight flight) {
+        return price(List.of(flight)).get(0);
+    }
+
+    // 출발했거나 오래 조회되지 않은 항공편의 운임표 정리
+    @Scheduled(fixedDelayString = "${skyline.pricing.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        long nowEpochSecond = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        long nowMillis = System.currentTimeMillis();
+        tables.values().removeIf(table -> table.isExpired(nowEpochSecond, nowMillis, idleMillis));
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("tables", tables.size());
+        status.put("load_factor_buckets", loadFactorMultipliers.length);
+        status.put("days_buckets", daysMultipliers.length);
+        return status;
+    }
+
+    // 운임 계산에 필요한 값이 없으면 null
+    private BigDecimal quote(Flight flight, long nowEpochSecond, long nowMillis) {
+        if (flight.getFlightId() == null || flight.getPrice() == null || flight.getDepartureTime() == null
+                || flight.getTotalSeats() == null || flight.getTotalSeats() <= 0
+                || flight.getAvailableSeats() == null) {
+            return null;
+        }
+        long baseCents = toCents(flight.getPrice());
+        int totalSeats = flight.getTotalSeats();
+        long departureEpochSecond = flight.getDepartureTime().toEpochSecond(ZoneOffset.UTC);
+
+        FareTable table = tables.get(flight.getFlightId());
+        if (table == null || !table.matches(baseCents, totalSeats, departureEpochSecond)) {
+            table = FareTable.build(baseCents, totalSeats, departureEpochSecond,
+                    daysMultipliers, loadFactorMultipliers, MULTIPLIER_SCALE, roundingCents);
+            tables.put(flight.getFlightId(), table);
+            tablesBuilt.increment();
+        }
+        table.touch(nowMillis);
+
+        long fareCents = table.fare(daysBucket(departureEpochSecond - nowEpochSecond), flight.getAvailableSeats());
+        return BigDecimal.valueOf(fareCents, 2);
+    }
+
+    private int daysBucket(long secondsToDeparture) {
+        long days = Math.max(0, secondsToDeparture / SECONDS_PER_DAY);
+        return days < daysBuckets.length ? daysBuckets[(int) days] : daysMultipliers.length - 1;
+    }
+
+    private static long[] toBasisPoints(double[] multipliers) {
+        long[] basisPoints = new long[multipliers.length];
+        for (int i = 0; i < multipliers.length; i++) {
+            if (multipliers[i] <= 0) {
+                throw new IllegalArgumentException("운임 배수는 0보다 커야 합니다: " + multipliers[i]);
+            }
+            basisPoints[i] = Math.round(multipliers[i] * MULTIPLIER_SCALE);
+        }
+        return basisPoints;
+    }
+
+    // DB 값은 scale 2 이므로 대부분 BigDecimal 연산 없이 정수 값만 꺼냄
+    private static long toCents(BigDecimal amount) {
+        BigDecimal scaled = amount.scale() == 2 ? amount : amount.setScale(2, RoundingMode.HALF_UP);
+        return scaled.unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.skyline.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 시간/크기가 제한된 JFR 기록을 한 번에 하나만 실행하고, 마지막 기록 파일과 요약을 보관
+@Service
+public class ProfilingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingService.class);
+
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final int RETAINED_RECORDINGS = 3;
+
+    private final Path directory;
+    private final int maxDurationSeconds;
+    private final long maxSizeBytes;
+    private final String packagePrefix;
+
+    private Recording recording;
+    private Path recordingFile;
+    private Instant startedAt;
+    private Map<String, Object> summary;
+    private int summaryTop;
+    private Path summaryFile;
+
+    @Autowired
+    public ProfilingService(@Value("${skyline.profiling.dir:./data/profiling}") String directory,
+                            @Value("${skyline.profiling.max-duration-seconds:300}") int maxDurationSeconds,
+                            @Value("${skyline.profiling.max-size-mb:100}") long maxSizeMb,
+                            @Value("${skyline.profiling.package:com.example.skyline}") String packagePrefix) {
+        this.directory = Paths.get(directory);
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.packagePrefix = packagePrefix;
+    }
+
+    public synchronized Map<String, Object> start(int durationSeconds) throws IOException, ParseException {
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("duration은 1~" + maxDurationSeconds + "초 사이여야 합니다");
+        }
+        if (isRunning()) {
+            throw new IllegalStateException("이미 실행 중인 프로파일링 기록이 있습니다");
+        }
+        Files.createDirectories(directory);
+        Instant now = Instant.now();
+        Path file = directory.resolve("skyline-" + FILE_TIME.format(now) + ".jfr");
+
+        // profile 설정: 실행 샘플 10ms, 할당 샘플링 포함. 세이프포인트 시작/종료 이벤트는 추가로 활성화
+        Recording started = new Recording(Configuration.getConfiguration("profile"));
+        started.enable("jdk.SafepointBegin");
+        started.enable("jdk.SafepointEnd");
+        started.setName("skyline-profiling");
+        started.setToDisk(true);
+        started.setMaxSize(maxSizeBytes);
+        started.setDuration(Duration.ofSeconds(durationSeconds)); // 기간 종료 시 자동 중지 후 파일 기록
+        started.setDestination(file);
+        started.start();
+
+        closeRecording();
+        recording = started;
+        recordingFile = file;
+        startedAt = now;
+        summary = null;
+        // 새 기록으로 교체한 뒤 정리 (실패해도 기록은 계속 진행)
+        try {
+            pruneOldRecordings(RETAINED_RECORDINGS - 1);
+        } catch (IOException e) {
+            log.warn("이전 프로파일링 기록 정리 실패: {}", e.getMessage());
+        }
+        log.info("JFR 프로파일링 시작: {}초, {}", durationSeconds, file);
+        return status();
+    }
+
+    public synchronized Map<String, Object> stop() {
+        if (isRunning()) {
+            recording.stop(); // destination 으로 기록됨
+            log.info("JFR 프로파일링 중지: {}", recordingFile);
+        }
+        return status();
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    // 완료된 마지막 기록 파일
+    public synchronized Optional<Path> getRecordingFile() {
+        if (recordingFile == null || isRunning() || !Files.exists(recordingFile)) {
+            return Optional.empty();
+        }
+        return Optional.of(recordingFile);
+    }
+
+    // 기록 파일(최대 max-size-mb) 파싱은 수 초 걸릴 수 있으므로 락 밖에서 수행 (그동안 시작/중지/상태 조회가 막히지 않음)
+    public Optional<Map<String, Object>> getSummary(int top) throws IOException {
+        Path file;
+        synchronized (this) {
+            Optional<Path> completed = getRecordingFile();
+            if (completed.isEmpty()) {
+                return Optional.empty();
+            }
+            file = completed.get();
+            if (summary != null && summaryTop == top && file.equals(summaryFile)) {
+                return Optional.of(summary);
+            }
+        }
+        Map<String, Object> parsed = new RecordingSummarizer(packagePrefix, top).summarize(file);
+        synchronized (this) {
+            // 파싱 중 새 기록이 시작됐으면 캐시하지 않고 이번 결과만 반환
+            if (file.equals(recordingFile)) {
+                summary = parsed;
+                summaryTop = top;
+                summaryFile = file;
+            }
+        }
+        return Optional.of(parsed);
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("started_at", startedAt.toString());
+            status.put("duration_seconds", recording.getDuration() == null ? null : recording.getDuration().toSeconds());
+            status.put("file", recordingFile.getFileName().toString());
+            status.put("size_bytes", sizeOf(recordingFile));
+        }
+        status.put("max_duration_seconds", maxDurationSeconds);
+        status.put("gc_totals", gcTotals());
+        return status;
+    }
+
+    // JVM 기동 이후 누적 GC 횟수/시간 (기록 없이도 확인 가능)
+    private static List<Map<String, Object>> gcTotals() {
+        List<Map<String, Object>> totals = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", gc.getName());
+            row.put("count", gc.getCollectionCount());
+            row.put("time_ms", gc.getCollectionTime());
+            totals.add(row);
+        }
+        return totals;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    // 파일명이 시작 시각 순이므로 이름순 정렬 후 오래된 기록부터 삭제. 현재 기록 파일은 대상에서 제외
+    // (같은 초에 다시 시작하면 이전 기록과 이름이 같음)
+    private void pruneOldRecordings(int keep) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> recordings = files
+                    .filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                    .filter(path -> !path.equals(recordingFile))
+                    .sorted()
+                    .toList();
+            for (int i = 0; i < recordings.size() - keep; i++) {
+                Files.deleteIfExists(recordings.get(i));
+            }
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.skyline.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// JFR 기록 파일에서 애플리케이션 코드 기준 CPU/할당 핫스팟과 GC/세이프포인트 통계를 집계
+class RecordingSummarizer {
+
+    private static final class PauseStats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", count);
+            stats.put("total_ms", totalNanos / 1_000_000.0);
+            stats.put("max_ms", maxNanos / 1_000_000.0);
+            stats.put("avg_ms", count == 0 ? 0.0 : totalNanos / 1_000_000.0 / count);
+            return stats;
+        }
+    }
+
+    private final String packagePrefix;
+    private final int top;
+
+    private long executionSamples;
+    private long appExecutionSamples;
+    private final Map<String, Long> cpuFrames = new HashMap<>();
+    private long allocatedBytes;
+    private final Map<String, Long> allocationFrames = new HashMap<>();
+    private final Map<String, Long> allocatedClasses = new HashMap<>();
+    private final Map<String, PauseStats> gcPauses = new TreeMap<>();
+    // SafepointBegin 의 duration 은 세이프포인트 도달 시간뿐이므로 SafepointEnd 와 safepointId 로 짝지어 전체 정지 시간 계산
+    // (이벤트는 스레드 버퍼 단위로 기록되어 파일 안에서 순서가 보장되지 않음)
+    private final Map<Long, RecordedEvent> safepointBegins = new HashMap<>();
+    private final Map<Long, Instant> safepointEnds = new HashMap<>();
+
+    RecordingSummarizer(String packagePrefix, int top) {
+        this.packagePrefix = packagePrefix;
+        this.top = top;
+    }
+
+    Map<String, Object> summarize(Path recording) throws IOException {
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                accept(file.readEvent());
+            }
+        }
+
+        Map<String, Object> cpu = new LinkedHashMap<>();
+        cpu.put("samples", executionSamples);
+        cpu.put("app_samples", appExecutionSamples);
+        cpu.put("top_frames", topEntries(cpuFrames, executionSamples, "frame", "samples"));
+
+        Map<String, Object> allocation = new LinkedHashMap<>();
+        allocation.put("sampled_bytes", allocatedBytes);
+        allocation.put("top_frames", topEntries(allocationFrames, allocatedBytes, "frame", "bytes"));
+        allocation.put("top_classes", topEntries(allocatedClasses, allocatedBytes, "class", "bytes"));
+
+        Map<String, Object> gc = new LinkedHashMap<>();
+        gcPauses.forEach((collector, stats) -> gc.put(collector, stats.toMap()));
+
+        PauseStats safepoints = new PauseStats();
+        PauseStats timeToSafepoint = new PauseStats();
+        safepointBegins.forEach((id, begin) -> {
+            Instant end = safepointEnds.get(id);
+            if (end != null) {
+                safepoints.add(Duration.between(begin.getStartTime(), end));
+                timeToSafepoint.add(begin.getDuration());
+            }
+        });
+        Map<String, Object> safepointSummary = safepoints.toMap();
+        safepointSummary.put("time_to_safepoint", timeToSafepoint.toMap());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("package", packagePrefix);
+        summary.put("cpu", cpu);
+        summary.put("allocation", allocation);
+        summary.put("gc_pauses", gc);
+        summary.put("safepoints", safepointSummary);
+        return summary;
+    }
+
+    private void accept(RecordedEvent event) {
+        switch (event.getEventType().getName()) {
+            case "jdk.ExecutionSample" -> {
+                executionSamples++;
+                String frame = firstAppFrame(event.getStackTrace());
+                if (frame != null) {
+                    appExecutionSamples++;
+                    cpuFrames.merge(frame, 1L, Long::sum);
+                }
+            }
+            case "jdk.ObjectAllocationSample" -> {
+                long weight = event.getLong("weight");
+                allocatedBytes += weight;
+                String frame = firstAppFrame(event.getStackTrace());
+                if (frame != null) {
+                    allocationFrames.merge(frame, weight, Long::sum);
+                }
+                if (event.getClass("objectClass") != null) {
+                    allocatedClasses.merge(event.getClass("objectClass").getName(), weight, Long::sum);
+                }
+            }
+            case "jdk.GarbageCollection" -> gcPauses
+                    .computeIfAbsent(event.getString("name"), name -> new PauseStats())
+                    .add(event.getDuration("sumOfPauses"));
+            case "jdk.SafepointBegin" -> safepointBegins.put(event.getLong("safepointId"), event);
+            case "jdk.SafepointEnd" -> safepointEnds.put(event.getLong("safepointId"), event.getEndTime());
+            default -> {
+            }
+        }
+    }
+
+    // 스택 최상단에서 가장 가까운 애플리케이션 프레임 (프레임워크/JDK 내부 비용을 호출한 우리 코드 위치)
+    private String firstAppFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            // 스프링 프록시 클래스 제외
+            if (type.startsWith(packagePrefix) && !type.contains("$$")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+
+    private List<Map<String, Object>> topEntries(Map<String, Long> counts, long total, String key, String unit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .map(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put(key, entry.getKey());
+                    row.put(unit, entry.getValue());
+                    row.put("percent", total == 0 ? 0.0 : Math.round(entry.getValue() * 1000.0 / total) / 10.0);
+                    return row;
+                })
+                .toList();
+    }
+}
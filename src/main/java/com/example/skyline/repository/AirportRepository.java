@@ -2,6 +2,7 @@ package com.example.skyline.repository;
 
 import com.example.skyline.entity.Airport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +15,8 @@ public interface AirportRepository extends JpaRepository<Airport, String> {
     List<Airport> findByCity(String city);
     
     List<Airport> findByAirportNameContainingIgnoreCase(String airportName);
+    
+    // 스케줄 스냅샷 공항 사전 (DB 정렬 순서 = 사전 인덱스 순서)
+    @Query("SELECT a.airportCode FROM Airport a ORDER BY a.airportCode")
+    List<String> findAllCodesOrdered();
 }
\ No newline at end of file
@@ -1,14 +1,18 @@
 package com.example.skyline.repository;
 
 import com.example.skyline.entity.Flight;
+import com.example.skyline.health.WarmupRoute;
+import com.example.skyline.schedule.ScheduleRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FlightRepository extends JpaRepository<Flight, Long> {
@@ -18,10 +22,11 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
     @Query("SELECT f FROM Flight f WHERE " +
            "f.departureAirport.airportCode = :departure AND " +
            "f.arrivalAirport.airportCode = :arrival AND " +
-           "DATE(f.departureTime) = :date")
+           "f.departureTime >= :dayStart AND f.departureTime < :dayEnd")
     List<Flight> findFlightsByRoute(@Param("departure") String departureAirport,
                                    @Param("arrival") String arrivalAirport,
-                                   @Param("date") LocalDate date);
+                                   @Param("dayStart") LocalDateTime dayStart,
+                                   @Param("dayEnd") LocalDateTime dayEnd);
     
     @Query("SELECT f FROM Flight f WHERE " +
            "f.departureTime BETWEEN :startDate AND :endDate")
@@ -34,4 +39,51 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
     List<Flight> findByDepartureAirport_AirportCode(String airportCode);
     
     List<Flight> findByArrivalAirport_AirportCode(String airportCode);
+    
+    // 여러 좌석을 한 번에 반환 (총 좌석수 초과 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Flight f SET f.availableSeats = CASE " +
+           "WHEN f.availableSeats + :seats > f.totalSeats THEN f.totalSeats " +
+           "ELSE f.availableSeats + :seats END " +
+           "WHERE f.flightId = :flightId")
+    int increaseAvailableSeatsBy(@Param("flightId") Long flightId, @Param("seats") int seats);
+    
+    // 좌석 1석 차감 (남은 좌석이 있을 때만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats - 1 " +
+           "WHERE f.flightId = :flightId AND f.availableSeats > 0")
+    int decrementAvailableSeat(@Param("flightId") Long flightId);
+    
+    // 좌석 1석 반환 (총 좌석수 미만일 때만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats + 1 " +
+           "WHERE f.flightId = :flightId AND f.availableSeats < f.totalSeats")
+    int incrementAvailableSeat(@Param("flightId") Long flightId);
+    
+    @Query("SELECT f.availableSeats FROM Flight f WHERE f.flightId = :flightId")
+    Integer findAvailableSeats(@Param("flightId") Long flightId);
+    
+    // 스케줄 스냅샷 작성용: 노선/출발시각 순 (스냅샷 이진 탐색 순서와 동일)
+    @Query("SELECT new com.example.skyline.schedule.ScheduleRow(f.flightId, f.flightNumber, " +
+           "f.departureAirport.airportCode, f.arrivalAirport.airportCode, f.departureTime, f.arrivalTime, " +
+           "f.aircraftType, f.totalSeats, f.availableSeats, f.price, f.updatedAt) FROM Flight f " +
+           "ORDER BY f.departureAirport.airportCode, f.arrivalAirport.airportCode, f.departureTime, f.flightId")
+    Stream<ScheduleRow> streamScheduleRows();
+    
+    // 스냅샷 이후 변경분 (idx_updated_at)
+    @Query("SELECT new com.example.skyline.schedule.ScheduleRow(f.flightId, f.flightNumber, " +
+           "f.departureAirport.airportCode, f.arrivalAirport.airportCode, f.departureTime, f.arrivalTime, " +
+           "f.aircraftType, f.totalSeats, f.availableSeats, f.price, f.updatedAt) FROM Flight f " +
+           "WHERE f.updatedAt >= :since")
+    List<ScheduleRow> findScheduleRowsUpdatedSince(@Param("since") LocalDateTime since);
+    
+    // 워밍업 대상: 기준 시각 이후 출발 항공편이 많은 노선 순
+    @Query("SELECT new com.example.skyline.health.WarmupRoute(f.departureAirport.airportCode, " +
+           "f.arrivalAirport.airportCode, MIN(f.departureTime)) FROM Flight f " +
+           "WHERE f.departureTime >= :from " +
+           "GROUP BY f.departureAirport.airportCode, f.arrivalAirport.airportCode ORDER BY COUNT(f) DESC")
+    List<WarmupRoute> findBusiestRoutes(@Param("from") LocalDateTime from, Pageable pageable);
+    
+    @Query("SELECT MAX(f.updatedAt) FROM Flight f")
+    LocalDateTime findMaxUpdatedAt();
 }
\ No newline at end of file
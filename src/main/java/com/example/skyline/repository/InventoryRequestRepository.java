@@ -0,0 +1,18 @@
+package com.example.skyline.repository;
+
+import com.example.skyline.entity.InventoryRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface InventoryRequestRepository extends JpaRepository<InventoryRequest, String> {
+    
+    @Modifying
+    @Query("DELETE FROM InventoryRequest r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
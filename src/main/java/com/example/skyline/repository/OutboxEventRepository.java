@@ -0,0 +1,39 @@
+package com.example.skyline.repository;
+
+import com.example.skyline.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // 오프셋(sequenceNo) 이후 변경분 조회 - 순번 유니크 인덱스 범위 스캔, 순번 부여 전 이벤트는 제외
+    List<OutboxEvent> findBySequenceNoGreaterThanOrderBySequenceNoAsc(Long afterSequenceNo, Pageable pageable);
+    
+    // 순번을 아직 받지 않은 미발행 이벤트 (릴레이 커서 행을 잠근 상태에서만 호출)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.sequenceNo IS NULL AND e.publishedAt IS NULL ORDER BY e.eventId")
+    List<OutboxEvent> findUnsequenced(Pageable pageable);
+    
+    // 순번은 받았지만 싱크에 아직 전달되지 않은 이벤트 (싱크 실패 시 같은 순번으로 재전달)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.sequenceNo IS NOT NULL AND e.publishedAt IS NULL " +
+           "ORDER BY e.sequenceNo")
+    List<OutboxEvent> findSequencedUnpublished(Pageable pageable);
+    
+    @Query("SELECT MAX(e.eventId) FROM OutboxEvent e")
+    Long findMaxEventId();
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") List<Long> eventIds, @Param("publishedAt") LocalDateTime publishedAt);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
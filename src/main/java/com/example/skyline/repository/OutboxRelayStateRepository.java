@@ -0,0 +1,20 @@
+package com.example.skyline.repository;
+
+import com.example.skyline.entity.OutboxRelayState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxRelayStateRepository extends JpaRepository<OutboxRelayState, Integer> {
+    
+    // 다른 레플리카의 릴레이는 커밋될 때까지 대기
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OutboxRelayState s WHERE s.relayId = :relayId")
+    Optional<OutboxRelayState> findForUpdate(@Param("relayId") Integer relayId);
+}
@@ -1,9 +1,14 @@
 package com.example.skyline.repository;
 
 import com.example.skyline.entity.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +21,49 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findByFlight_FlightId(Long flightId);
     
     Long countByFlight_FlightId(Long flightId);
+    
+    long countByFlight_FlightIdAndStatus(Long flightId, Reservation.ReservationStatus status);
+    
+    long countByReservationIdIn(Collection<Long> reservationIds);
+    
+    // 항공편별 예약 ID를 키셋 방식으로 조회 (청크 경계 계산용)
+    @Query("SELECT r.reservationId FROM Reservation r WHERE " +
+           "r.flight.flightId = :flightId AND r.status = :status AND r.reservationId > :afterId " +
+           "ORDER BY r.reservationId")
+    List<Long> findIdsByFlightAfter(@Param("flightId") Long flightId,
+                                    @Param("status") Reservation.ReservationStatus status,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+    
+    // 취소 대상 확정 예약 행을 잠그고 [reservationId, flightId] 반환
+    // 동시에 같은 예약을 취소하는 트랜잭션은 여기서 대기하므로 좌석이 두 번 반환되지 않음
+    @Query(value = "SELECT reservation_id, flight_id FROM reservations WHERE " +
+                   "reservation_id IN (:ids) AND status = 'CONFIRMED' ORDER BY reservation_id FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockConfirmedByIds(@Param("ids") List<Long> ids);
+    
+    // 청크 범위의 확정 예약 행을 잠그고 ID 반환
+    @Query(value = "SELECT reservation_id FROM reservations WHERE " +
+                   "flight_id = :flightId AND status = 'CONFIRMED' AND " +
+                   "reservation_id > :afterId AND reservation_id <= :upToId ORDER BY reservation_id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockConfirmedIdsByFlightInRange(@Param("flightId") Long flightId,
+                                               @Param("afterId") Long afterId,
+                                               @Param("upToId") Long upToId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :newStatus WHERE " +
+           "r.reservationId IN :ids AND r.status = :currentStatus")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("currentStatus") Reservation.ReservationStatus currentStatus,
+                          @Param("newStatus") Reservation.ReservationStatus newStatus);
+    
+    // 한 항공편의 지정 예약만 상태 변경 (반환값 = 좌석 보정 건수)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :newStatus WHERE " +
+           "r.flight.flightId = :flightId AND r.reservationId IN :ids AND r.status = :currentStatus")
+    int updateStatusByFlightAndIds(@Param("flightId") Long flightId,
+                                   @Param("ids") List<Long> ids,
+                                   @Param("currentStatus") Reservation.ReservationStatus currentStatus,
+                                   @Param("newStatus") Reservation.ReservationStatus newStatus);
 }
\ No newline at end of file
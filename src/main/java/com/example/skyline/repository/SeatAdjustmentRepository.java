@@ -0,0 +1,19 @@
+package com.example.skyline.repository;
+
+import com.example.skyline.entity.SeatAdjustment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SeatAdjustmentRepository extends JpaRepository<SeatAdjustment, String> {
+    
+    // 재시도 시각이 된 미전달 좌석 변경
+    @Query("SELECT a FROM SeatAdjustment a WHERE a.nextAttemptAt <= :now ORDER BY a.nextAttemptAt")
+    List<SeatAdjustment> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
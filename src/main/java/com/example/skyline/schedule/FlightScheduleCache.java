@@ -0,0 +1,290 @@
+package com.example.skyline.schedule;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.repository.AirportRepository;
+import com.example.skyline.repository.FlightRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// 메모리 매핑 스냅샷 + DB 델타로 항공편 노선 검색에 응답. 스냅샷이 없거나 로딩 전이면 DB 조회로 대체
+@Component
+@Lazy(false)
+public class FlightScheduleCache {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightScheduleCache.class);
+
+    // 델타 색인 키: 검색 조건(출발, 도착, 출발일)과 같은 단위
+    private record RouteDay(String departure, String arrival, LocalDate date) {
+        private static RouteDay of(ScheduleRow row) {
+            return new RouteDay(row.departureAirport(), row.arrivalAirport(), row.departureTime().toLocalDate());
+        }
+    }
+
+    private final FlightRepository flightRepository;
+    private final AirportRepository airportRepository;
+    private final ScheduleSnapshotWriter writer;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path path;
+    private final long overlapSeconds;
+    private final int maxDeltas;
+
+    // 스냅샷 이후 변경된 항공편 (다음 스냅샷 작성 시 정리). 검색은 노선/출발일 색인으로 해당 칸만 확인
+    private final ConcurrentHashMap<Long, ScheduleRow> deltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<RouteDay, Map<Long, ScheduleRow>> deltasByRoute = new ConcurrentHashMap<>();
+    // 델타 쓰기(갱신/정리)끼리 직렬화, 검색은 잠그지 않음
+    private final Object deltaLock = new Object();
+    private final ReentrantLock rewriteLock = new ReentrantLock();
+    private volatile FlightScheduleSnapshot snapshot;
+    private volatile Map<String, Airport> airports = Map.of();
+    private volatile LocalDateTime deltaWatermark;
+    private volatile long loadMillis = -1;
+    // 기동 시 로딩 시도가 끝나면 해제 (성공/실패/비활성 모두). 레디니스 게이트가 대기
+    private final CountDownLatch loadAttempted = new CountDownLatch(1);
+
+    @Autowired
+    public FlightScheduleCache(FlightRepository flightRepository,
+                               AirportRepository airportRepository,
+                               ScheduleSnapshotWriter writer,
+                               MeterRegistry meterRegistry,
+                               @Value("${skyline.schedule.enabled:true}") boolean enabled,
+                               @Value("${skyline.schedule.snapshot-path:./data/schedule/flights.snap}") String path,
+                               @Value("${skyline.schedule.delta-overlap-seconds:30}") long overlapSeconds,
+                               @Value("${skyline.schedule.max-deltas:5000}") int maxDeltas) {
+        this.flightRepository = flightRepository;
+        this.airportRepository = airportRepository;
+        this.writer = writer;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+        this.overlapSeconds = overlapSeconds;
+        this.maxDeltas = maxDeltas;
+        meterRegistry.gaugeMapSize("skyline.schedule.deltas", Tags.empty(), deltas);
+        meterRegistry.gauge("skyline.schedule.snapshot.records", this,
+                cache -> cache.snapshot == null ? 0 : cache.snapshot.getRecordCount());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            loadAttempted.countDown();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!Files.exists(path)) {
+                // 첫 기동: 전체 스캔으로 스냅샷을 만든 뒤 매핑 (이후 기동부터는 매핑만)
+                writer.write(path, overlapSeconds);
+            }
+            FlightScheduleSnapshot opened = FlightScheduleSnapshot.open(path);
+            airports = loadAirports();
+            deltaWatermark = opened.getWatermark();
+            snapshot = opened;
+            refreshDeltas();
+            loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("스케줄 스냅샷 로딩: {}건, {}bytes, {}ms (생성 {})", opened.getRecordCount(),
+                    opened.getSizeBytes(), loadMillis, opened.getCreatedAt());
+        } catch (IOException | RuntimeException e) {
+            snapshot = null;
+            log.warn("스케줄 스냅샷을 사용할 수 없어 DB 조회로 대체합니다: {}", e.getMessage());
+        } finally {
+            loadAttempted.countDown();
+        }
+    }
+
+    // 기동 시 스냅샷 로딩 시도가 끝날 때까지 대기. 로딩에 실패해도 DB 조회로 응답할 수 있으므로 true
+    public boolean awaitLoad(long timeout, TimeUnit unit) throws InterruptedException {
+        return loadAttempted.await(timeout, unit);
+    }
+
+    // 스냅샷 워터마크 이후 변경분 반영. 커밋 지연을 고려해 overlap 만큼 겹쳐서 다시 읽음
+    @Scheduled(fixedDelayString = "${skyline.schedule.delta-interval-ms:1000}")
+    public void refreshDeltas() {
+        LocalDateTime since = deltaWatermark;
+        if (snapshot == null || since == null) {
+            return;
+        }
+        try {
+            List<ScheduleRow> changed = flightRepository.findScheduleRowsUpdatedSince(since);
+            LocalDateTime latest = since.plusSeconds(overlapSeconds);
+            synchronized (deltaLock) {
+                for (ScheduleRow row : changed) {
+                    putDelta(row);
+                    if (row.updatedAt() != null && row.updatedAt().isAfter(latest)) {
+                        latest = row.updatedAt();
+                    }
+                }
+            }
+            deltaWatermark = latest.minusSeconds(overlapSeconds);
+        } catch (RuntimeException e) {
+            log.warn("스케줄 델타 조회 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            return;
+        }
+        // 델타가 많이 쌓이면 주기를 기다리지 않고 재작성. 새 스냅샷 워터마크(최신 변경 - overlap) 이후 변경은
+        // 재작성해도 델타로 남으므로, 접을 수 있는 델타가 한도를 넘을 때만 수행
+        if (deltas.size() > maxDeltas) {
+            LocalDateTime watermark = deltaWatermark;
+            long foldable = deltas.values().stream()
+                    .filter(row -> row.updatedAt() != null && row.updatedAt().isBefore(watermark))
+                    .count();
+            if (foldable > maxDeltas) {
+                log.info("스케줄 델타 {}건이 한도({})를 넘어 스냅샷을 다시 작성합니다", foldable, maxDeltas);
+                rewriteSnapshot();
+            }
+        }
+    }
+
+    // 주기적으로 스냅샷을 다시 작성해 델타를 접어 넣음
+    @Scheduled(initialDelayString = "${skyline.schedule.snapshot-interval-ms:600000}",
+            fixedDelayString = "${skyline.schedule.snapshot-interval-ms:600000}")
+    public void rewriteSnapshot() {
+        if (!enabled || snapshot == null || !rewriteLock.tryLock()) {
+            return; // 이미 재작성 중
+        }
+        try {
+            int count = writer.write(path, overlapSeconds);
+            FlightScheduleSnapshot opened = FlightScheduleSnapshot.open(path);
+            airports = loadAirports();
+            snapshot = opened;
+            // 새 스냅샷 워터마크 이전 변경은 스냅샷에 포함됨
+            synchronized (deltaLock) {
+                for (ScheduleRow row : List.copyOf(deltas.values())) {
+                    if (row.updatedAt() != null && row.updatedAt().isBefore(opened.getWatermark())) {
+                        removeDelta(row);
+                    }
+                }
+            }
+            log.info("스케줄 스냅샷 갱신: {}건, 남은 델타 {}건", count, deltas.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("스케줄 스냅샷 갱신 실패: {}", e.getMessage());
+        } finally {
+            rewriteLock.unlock();
+        }
+    }
+
+    public Optional<List<Flight>> search(String departureAirport, String arrivalAirport, LocalDate date) {
+        FlightScheduleSnapshot current = snapshot;
+        if (current == null) {
+            meterRegistry.counter("skyline.schedule.search", "source", "database").increment();
+            return Optional.empty();
+        }
+        // MySQL 비교(대소문자 무시, 끝 공백 무시)와 같은 결과가 되도록 정규화
+        String departure = departureAirport.stripTrailing().toUpperCase(Locale.ROOT);
+        String arrival = arrivalAirport.stripTrailing().toUpperCase(Locale.ROOT);
+        LocalDateTime from = date.atStartOfDay();
+        LocalDateTime to = date.plusDays(1).atStartOfDay();
+
+        Map<Long, ScheduleRow> routeDeltas = deltasByRoute.getOrDefault(new RouteDay(departure, arrival, date), Map.of());
+        List<ScheduleRow> rows = new ArrayList<>();
+        current.forEachOnRoute(departure, arrival, from, to, index -> {
+            long flightId = current.flightId(index);
+            if (!deltas.containsKey(flightId) && !routeDeltas.containsKey(flightId)) {
+                rows.add(current.row(index));
+            }
+        });
+        for (ScheduleRow row : routeDeltas.values()) {
+            if (row.isOnRoute(departure, arrival, from, to)) {
+                rows.add(row);
+            }
+        }
+        rows.sort(Comparator.comparing(ScheduleRow::departureTime).thenComparing(ScheduleRow::flightId));
+
+        List<Flight> flights = new ArrayList<>(rows.size());
+        for (ScheduleRow row : rows) {
+            Flight flight = toFlight(row);
+            if (flight == null) {
+                // 스냅샷 이후 추가된 공항: DB 조회로 대체
+                meterRegistry.counter("skyline.schedule.search", "source", "database").increment();
+                return Optional.empty();
+            }
+            flights.add(flight);
+        }
+        meterRegistry.counter("skyline.schedule.search", "source", "snapshot").increment();
+        return Optional.of(flights);
+    }
+
+    public Map<String, Object> getStatus() {
+        FlightScheduleSnapshot current = snapshot;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("loaded", current != null);
+        if (current != null) {
+            status.put("records", current.getRecordCount());
+            status.put("size_bytes", current.getSizeBytes());
+            status.put("created_at", current.getCreatedAt().toString());
+            status.put("deltas", deltas.size());
+            status.put("load_ms", loadMillis);
+        }
+        return status;
+    }
+
+    // 색인 칸에 먼저 넣어 검색이 스냅샷 행과 델타를 둘 다 놓치는 순간이 없게 함 (deltaLock 보유 상태에서 호출)
+    // 노선/출발일이 바뀐 항공편은 이전 칸에서 제거
+    private void putDelta(ScheduleRow row) {
+        RouteDay key = RouteDay.of(row);
+        deltasByRoute.computeIfAbsent(key, routeDay -> new ConcurrentHashMap<>()).put(row.flightId(), row);
+        ScheduleRow previous = deltas.put(row.flightId(), row);
+        if (previous != null && !RouteDay.of(previous).equals(key)) {
+            removeFromRoute(previous);
+        }
+    }
+
+    private void removeDelta(ScheduleRow row) {
+        if (deltas.remove(row.flightId(), row)) {
+            removeFromRoute(row);
+        }
+    }
+
+    private void removeFromRoute(ScheduleRow row) {
+        deltasByRoute.computeIfPresent(RouteDay.of(row), (key, rows) -> {
+            rows.remove(row.flightId());
+            return rows.isEmpty() ? null : rows;
+        });
+    }
+
+    private Map<String, Airport> loadAirports() {
+        return airportRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Airport::getAirportCode, airport -> airport));
+    }
+
+    private Flight toFlight(ScheduleRow row) {
+        Airport departure = airports.get(row.departureAirport());
+        Airport arrival = airports.get(row.arrivalAirport());
+        if (departure == null || arrival == null) {
+            return null;
+        }
+        Flight flight = new Flight(row.flightNumber(), departure, arrival, row.departureTime(),
+                row.arrivalTime(), row.aircraftType(), row.totalSeats(), row.availableSeats(), row.price());
+        flight.setFlightId(row.flightId());
+        return flight;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.skyline.schedule;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static com.example.skyline.schedule.ScheduleSnapshotFormat.*;
+
+// MappedByteBuffer 로 연 읽기 전용 스케줄 스냅샷. 레코드는 힙에 올리지 않고 필요할 때 절대 위치로 읽음
+public final class FlightScheduleSnapshot {
+
+    private final MappedByteBuffer buffer;
+    private final int recordCount;
+    private final long recordsOffset;
+    private final String[] airports;
+    private final Map<String, Short> airportIndex;
+    private final String[] aircraftTypes;
+    private final Instant createdAt;
+    private final LocalDateTime watermark;
+    private final long sizeBytes;
+
+    private FlightScheduleSnapshot(MappedByteBuffer buffer, long sizeBytes) {
+        this.buffer = buffer;
+        this.sizeBytes = sizeBytes;
+        if (buffer.getInt(H_MAGIC) != MAGIC || buffer.getInt(H_VERSION) != VERSION
+                || buffer.getInt(H_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IllegalStateException("지원하지 않는 스케줄 스냅샷 포맷");
+        }
+        this.recordCount = buffer.getInt(H_RECORD_COUNT);
+        this.recordsOffset = buffer.getLong(H_RECORDS_OFFSET);
+        long aircraftOffset = buffer.getLong(H_AIRCRAFT_OFFSET);
+        if (recordsOffset + (long) recordCount * RECORD_SIZE != aircraftOffset || aircraftOffset > sizeBytes) {
+            throw new IllegalStateException("스케줄 스냅샷 파일이 손상되었습니다");
+        }
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(H_CREATED_AT));
+        this.watermark = fromEpochSecond(buffer.getLong(H_WATERMARK));
+
+        int airportCount = buffer.getInt(H_AIRPORT_COUNT);
+        this.airports = new String[airportCount];
+        this.airportIndex = new HashMap<>(airportCount * 2);
+        byte[] code = new byte[AIRPORT_CODE_LENGTH];
+        for (int i = 0; i < airportCount; i++) {
+            buffer.get(HEADER_SIZE + i * AIRPORT_ENTRY_SIZE, code);
+            airports[i] = new String(code, StandardCharsets.US_ASCII);
+            airportIndex.put(airports[i], (short) i);
+        }
+
+        int aircraftCount = buffer.getInt(H_AIRCRAFT_COUNT);
+        this.aircraftTypes = new String[aircraftCount];
+        int position = Math.toIntExact(aircraftOffset);
+        for (int i = 0; i < aircraftCount; i++) {
+            int length = buffer.getShort(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + 2, bytes);
+            aircraftTypes[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+    }
+
+    public static FlightScheduleSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("스케줄 스냅샷 크기가 올바르지 않습니다: " + size);
+            }
+            // 채널을 닫아도 매핑은 GC 될 때까지 유효
+            return new FlightScheduleSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), size);
+        }
+    }
+
+    // 노선과 출발 시각 범위 [from, to) 에 해당하는 레코드 인덱스를 순서대로 전달
+    public void forEachOnRoute(String departure, String arrival, LocalDateTime from, LocalDateTime to,
+                               IntConsumer visitor) {
+        Short dep = airportIndex.get(departure);
+        Short arr = airportIndex.get(arrival);
+        if (dep == null || arr == null) {
+            return;
+        }
+        long toSecond = toEpochSecond(to);
+        for (int i = lowerBound(dep, arr, toEpochSecond(from)); i < recordCount; i++) {
+            int offset = field(i, 0);
+            if (buffer.getShort(offset + R_DEPARTURE_AIRPORT) != dep
+                    || buffer.getShort(offset + R_ARRIVAL_AIRPORT) != arr
+                    || buffer.getLong(offset + R_DEPARTURE_TIME) >= toSecond) {
+                return;
+            }
+            visitor.accept(i);
+        }
+    }
+
+    public long flightId(int index) {
+        return buffer.getLong(field(index, R_FLIGHT_ID));
+    }
+
+    public ScheduleRow row(int index) {
+        int offset = field(index, 0);
+        byte[] flightNumber = new byte[FLIGHT_NUMBER_LENGTH];
+        buffer.get(offset + R_FLIGHT_NUMBER, flightNumber);
+        int length = 0;
+        while (length < FLIGHT_NUMBER_LENGTH && flightNumber[length] != 0) {
+            length++;
+        }
+        short aircraft = buffer.getShort(offset + R_AIRCRAFT);
+        return new ScheduleRow(
+                buffer.getLong(offset + R_FLIGHT_ID),
+                new String(flightNumber, 0, length, StandardCharsets.US_ASCII),
+                airports[buffer.getShort(offset + R_DEPARTURE_AIRPORT)],
+                airports[buffer.getShort(offset + R_ARRIVAL_AIRPORT)],
+                fromEpochSecond(buffer.getLong(offset + R_DEPARTURE_TIME)),
+                fromEpochSecond(buffer.getLong(offset + R_ARRIVAL_TIME)),
+                aircraft == NO_AIRCRAFT ? null : aircraftTypes[aircraft],
+                buffer.getInt(offset + R_TOTAL_SEATS),
+                buffer.getInt(offset + R_AVAILABLE_SEATS),
+                BigDecimal.valueOf(buffer.getLong(offset + R_PRICE), PRICE_SCALE),
+                fromEpochSecond(buffer.getLong(offset + R_UPDATED_AT)));
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    // 이 시각 이후의 변경은 스냅샷에 없을 수 있으므로 DB 델타로 보완
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    // (출발, 도착, 출발시각) 이 주어진 키 이상인 첫 레코드
+    private int lowerBound(short dep, short arr, long departureSecond) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int offset = field(mid, 0);
+            int cmp = Short.compare(buffer.getShort(offset + R_DEPARTURE_AIRPORT), dep);
+            if (cmp == 0) {
+                cmp = Short.compare(buffer.getShort(offset + R_ARRIVAL_AIRPORT), arr);
+            }
+            if (cmp == 0) {
+                cmp = Long.compare(buffer.getLong(offset + R_DEPARTURE_TIME), departureSecond);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int field(int index, int fieldOffset) {
+        return (int) (recordsOffset + (long) index * RECORD_SIZE) + fieldOffset;
+    }
+}
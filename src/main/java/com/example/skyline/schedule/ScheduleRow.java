@@ -0,0 +1,23 @@
+package com.example.skyline.schedule;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 스케줄 스냅샷/델타의 항공편 한 행 (공항은 코드로만 참조)
+public record ScheduleRow(Long flightId,
+                          String flightNumber,
+                          String departureAirport,
+                          String arrivalAirport,
+                          LocalDateTime departureTime,
+                          LocalDateTime arrivalTime,
+                          String aircraftType,
+                          Integer totalSeats,
+                          Integer availableSeats,
+                          BigDecimal price,
+                          LocalDateTime updatedAt) {
+
+    public boolean isOnRoute(String departure, String arrival, LocalDateTime from, LocalDateTime to) {
+        return departureAirport.equals(departure) && arrivalAirport.equals(arrival)
+                && !departureTime.isBefore(from) && departureTime.isBefore(to);
+    }
+}
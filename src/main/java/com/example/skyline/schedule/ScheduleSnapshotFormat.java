@@ -0,0 +1,64 @@
+package com.example.skyline.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 스케줄 스냅샷 바이너리 포맷 (빅엔디언)
+//
+// [헤더 64B] magic, version, recordSize, recordCount, airportCount, aircraftCount,
+//            recordsOffset, aircraftOffset, createdAtEpochMs, watermarkEpochSec
+// [공항 사전] airportCount x 4B (코드 3자 ASCII + 패딩), 코드 순으로 정렬되어 인덱스 순서 = 코드 순서
+// [레코드]   recordCount x 64B 고정 폭, (출발공항, 도착공항, 출발시각, flightId) 순 정렬
+// [기종 사전] aircraftCount x (2B 길이 + UTF-8)
+final class ScheduleSnapshotFormat {
+
+    static final int MAGIC = 0x534B5953; // "SKYS"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int AIRPORT_ENTRY_SIZE = 4;
+    static final int AIRPORT_CODE_LENGTH = 3;
+
+    // 헤더 필드 오프셋
+    static final int H_MAGIC = 0;
+    static final int H_VERSION = 4;
+    static final int H_RECORD_SIZE = 8;
+    static final int H_RECORD_COUNT = 12;
+    static final int H_AIRPORT_COUNT = 16;
+    static final int H_AIRCRAFT_COUNT = 20;
+    static final int H_RECORDS_OFFSET = 24;
+    static final int H_AIRCRAFT_OFFSET = 32;
+    static final int H_CREATED_AT = 40;
+    static final int H_WATERMARK = 48;
+
+    // 레코드 필드 오프셋
+    static final int RECORD_SIZE = 64;
+    static final int R_FLIGHT_ID = 0;
+    static final int R_DEPARTURE_TIME = 8;
+    static final int R_ARRIVAL_TIME = 16;
+    static final int R_PRICE = 24;
+    static final int R_UPDATED_AT = 32;
+    static final int R_TOTAL_SEATS = 40;
+    static final int R_AVAILABLE_SEATS = 44;
+    static final int R_DEPARTURE_AIRPORT = 48;
+    static final int R_ARRIVAL_AIRPORT = 50;
+    static final int R_AIRCRAFT = 52;
+    static final int R_FLIGHT_NUMBER = 54;
+    static final int FLIGHT_NUMBER_LENGTH = 10;
+
+    static final short NO_AIRCRAFT = -1;
+
+    // 가격은 DECIMAL(10,2) 이므로 1/100 단위 long 으로 저장
+    static final int PRICE_SCALE = 2;
+
+    private ScheduleSnapshotFormat() {
+    }
+
+    // DATETIME 은 시간대 없는 값이므로 UTC 기준 초로 그대로 변환
+    static long toEpochSecond(LocalDateTime time) {
+        return time == null ? 0L : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.skyline.schedule;
+
+import com.example.skyline.repository.AirportRepository;
+import com.example.skyline.repository.FlightRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.example.skyline.schedule.ScheduleSnapshotFormat.*;
+
+// 항공편 스케줄을 고정 폭 바이너리 스냅샷으로 기록. 임시 파일에 쓴 뒤 원자적으로 교체
+@Component
+public class ScheduleSnapshotWriter {
+
+    private static final int RECORDS_PER_WRITE = 1024;
+    private static final byte[] EMPTY_FLIGHT_NUMBER = new byte[FLIGHT_NUMBER_LENGTH];
+
+    private final FlightRepository flightRepository;
+    private final AirportRepository airportRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ScheduleSnapshotWriter(FlightRepository flightRepository, AirportRepository airportRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.flightRepository = flightRepository;
+        this.airportRepository = airportRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // overlap: 스냅샷 읽기 시점에 커밋되지 않았을 수 있는 변경을 델타로 다시 읽기 위한 여유 시간
+    public int write(Path target, long overlapSeconds) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            Integer count;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                count = transactionTemplate.execute(status -> {
+                    try {
+                        return writeSnapshot(channel, overlapSeconds);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                channel.force(true);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count == null ? 0 : count;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private int writeSnapshot(FileChannel channel, long overlapSeconds) throws IOException {
+        LocalDateTime maxUpdatedAt = flightRepository.findMaxUpdatedAt();
+        long watermark = maxUpdatedAt == null ? 0L : toEpochSecond(maxUpdatedAt) - overlapSeconds;
+
+        List<String> airports = airportRepository.findAllCodesOrdered();
+        Map<String, Short> airportIndex = new HashMap<>(airports.size() * 2);
+        ByteBuffer dictionary = ByteBuffer.allocate(airports.size() * AIRPORT_ENTRY_SIZE);
+        for (String code : airports) {
+            byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+            if (bytes.length != AIRPORT_CODE_LENGTH || airports.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("스냅샷에 기록할 수 없는 공항 코드: " + code);
+            }
+            airportIndex.put(code, (short) airportIndex.size());
+            dictionary.put(bytes).put((byte) 0);
+        }
+        long recordsOffset = HEADER_SIZE + (long) dictionary.capacity();
+        channel.position(HEADER_SIZE);
+        writeFully(channel, dictionary.flip());
+
+        List<String> aircraftTypes = new ArrayList<>();
+        Map<String, Short> aircraftIndex = new HashMap<>();
+        ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_WRITE * RECORD_SIZE);
+        int count = 0;
+        short previousDep = Short.MIN_VALUE;
+        short previousArr = Short.MIN_VALUE;
+        long previousDeparture = Long.MIN_VALUE;
+        try (Stream<ScheduleRow> rows = flightRepository.streamScheduleRows()) {
+            Iterator<ScheduleRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ScheduleRow row = iterator.next();
+                short dep = lookup(airportIndex, row.departureAirport());
+                short arr = lookup(airportIndex, row.arrivalAirport());
+                long departure = toEpochSecond(row.departureTime());
+                // 이진 탐색 전제: (출발, 도착, 출발시각) 순 정렬
+                if (dep < previousDep || (dep == previousDep && (arr < previousArr
+                        || (arr == previousArr && departure < previousDeparture)))) {
+                    throw new IllegalStateException("노선 정렬 순서가 공항 사전 순서와 다릅니다");
+                }
+                previousDep = dep;
+                previousArr = arr;
+                previousDeparture = departure;
+                putRecord(records, row, dep, arr, departure, aircraft(row.aircraftType(), aircraftTypes, aircraftIndex));
+                count++;
+                if (!records.hasRemaining()) {
+                    writeFully(channel, records.flip());
+                    records.clear();
+                }
+            }
+        }
+        writeFully(channel, records.flip());
+
+        long aircraftOffset = channel.position();
+        for (String type : aircraftTypes) {
+            byte[] bytes = type.getBytes(StandardCharsets.UTF_8);
+            writeFully(channel, ByteBuffer.allocate(2 + bytes.length).putShort((short) bytes.length).put(bytes).flip());
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(H_MAGIC, MAGIC)
+                .putInt(H_VERSION, VERSION)
+                .putInt(H_RECORD_SIZE, RECORD_SIZE)
+                .putInt(H_RECORD_COUNT, count)
+                .putInt(H_AIRPORT_COUNT, airports.size())
+                .putInt(H_AIRCRAFT_COUNT, aircraftTypes.size())
+                .putLong(H_RECORDS_OFFSET, recordsOffset)
+                .putLong(H_AIRCRAFT_OFFSET, aircraftOffset)
+                .putLong(H_CREATED_AT, System.currentTimeMillis())
+                .putLong(H_WATERMARK, watermark);
+        channel.position(0);
+        writeFully(channel, header);
+        return count;
+    }
+
+    private static void putRecord(ByteBuffer records, ScheduleRow row, short dep, short arr, long departure,
+                                  short aircraft) {
+        byte[] flightNumber = row.flightNumber().getBytes(StandardCharsets.US_ASCII);
+        if (flightNumber.length > FLIGHT_NUMBER_LENGTH
+                || !row.flightNumber().equals(new String(flightNumber, StandardCharsets.US_ASCII))) {
+            throw new IllegalStateException("스냅샷에 기록할 수 없는 항공편명: " + row.flightNumber());
+        }
+        int base = records.position();
+        records.putLong(base + R_FLIGHT_ID, row.flightId())
+                .putLong(base + R_DEPARTURE_TIME, departure)
+                .putLong(base + R_ARRIVAL_TIME, toEpochSecond(row.arrivalTime()))
+                .putLong(base + R_PRICE, scaledPrice(row.price()))
+                .putLong(base + R_UPDATED_AT, toEpochSecond(row.updatedAt()))
+                .putInt(base + R_TOTAL_SEATS, row.totalSeats())
+                .putInt(base + R_AVAILABLE_SEATS, row.availableSeats())
+                .putShort(base + R_DEPARTURE_AIRPORT, dep)
+                .putShort(base + R_ARRIVAL_AIRPORT, arr)
+                .putShort(base + R_AIRCRAFT, aircraft)
+                .put(base + R_FLIGHT_NUMBER, EMPTY_FLIGHT_NUMBER) // 버퍼 재사용 시 이전 값 제거
+                .put(base + R_FLIGHT_NUMBER, flightNumber);
+        records.position(base + RECORD_SIZE);
+    }
+
+    private static long scaledPrice(BigDecimal price) {
+        return price.setScale(PRICE_SCALE).unscaledValue().longValueExact();
+    }
+
+    private static short lookup(Map<String, Short> airportIndex, String code) {
+        Short index = airportIndex.get(code);
+        if (index == null) {
+            throw new IllegalStateException("공항 사전에 없는 코드: " + code);
+        }
+        return index;
+    }
+
+    private static short aircraft(String type, List<String> aircraftTypes, Map<String, Short> aircraftIndex) {
+        if (type == null) {
+            return NO_AIRCRAFT;
+        }
+        return aircraftIndex.computeIfAbsent(type, key -> {
+            aircraftTypes.add(key);
+            return (short) (aircraftTypes.size() - 1);
+        });
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
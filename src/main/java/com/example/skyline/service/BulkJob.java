@@ -0,0 +1,84 @@
+package com.example.skyline.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 청크 단위로 실행되는 대량 작업의 진행 상태
+public class BulkJob {
+
+    public enum JobState {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String jobId = UUID.randomUUID().toString();
+    private final String type;
+    private final Long flightId;
+    private final long total;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicInteger chunks = new AtomicInteger();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile JobState state = JobState.PENDING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public BulkJob(String type, Long flightId, long total) {
+        this.type = type;
+        this.flightId = flightId;
+        this.total = total;
+    }
+
+    public void markRunning() {
+        this.state = JobState.RUNNING;
+    }
+
+    public void addChunk(int processedInChunk) {
+        processed.addAndGet(processedInChunk);
+        chunks.incrementAndGet();
+    }
+
+    public void markCompleted() {
+        this.finishedAt = LocalDateTime.now();
+        this.state = JobState.COMPLETED;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.state = JobState.FAILED;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public JobState getState() {
+        return state;
+    }
+
+    public boolean isFinished() {
+        return state == JobState.COMPLETED || state == JobState.FAILED;
+    }
+
+    public Map<String, Object> toStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("jobId", jobId);
+        status.put("type", type);
+        status.put("flightId", flightId);
+        status.put("state", state.name());
+        status.put("total", total);
+        status.put("processed", processed.get());
+        status.put("chunks", chunks.get());
+        status.put("progress", total == 0 ? 1.0 : Math.min(1.0, (double) processed.get() / total));
+        status.put("createdAt", createdAt);
+        status.put("finishedAt", finishedAt);
+        if (error != null) {
+            status.put("error", error);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.skyline.service;
+
+import com.example.skyline.entity.Flight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 동일한 항공편 조회가 동시에 들어오면 하나의 실행 결과(CompletableFuture)를 공유 (single-flight)
+// 키는 args 그대로 사용하므로 loader 는 반드시 같은 args 로 조회해야 함 (정규화는 호출 측에서 먼저)
+// 공유된 결과는 그대로 넘기지 않고 호출마다 Flight 복사본(변경 불가 리스트)을 돌려주므로 한 요청이 바꾼 값이 다른 요청에 보이지 않음
+@Component
+public class FlightQueryCoalescer {
+
+    private record Key(String method, List<Object> args) {
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        private boolean isExpired(long nowNanos, long staleNanos) {
+            return future.isDone() && nowNanos - completedAtNanos > staleNanos;
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long staleNanos;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public FlightQueryCoalescer(MeterRegistry meterRegistry,
+                                @Value("${skyline.coalescing.enabled:true}") boolean enabled,
+                                @Value("${skyline.coalescing.staleness-ms:0}") long stalenessMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(stalenessMs);
+        meterRegistry.gaugeMapSize("skyline.flight.query.inflight", Tags.empty(), entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String method, Supplier<T> loader, Object... args) {
+        // 이미 트랜잭션 안이면 자신의 트랜잭션 상태를 봐야 하므로 공유하지 않음
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+
+        Key key = new Key(method, Arrays.asList(args));
+        counter("skyline.flight.query.calls", method).increment();
+
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                if (!existing.isExpired(System.nanoTime(), staleNanos)) {
+                    counter("skyline.flight.query.collapsed", method).increment();
+                    return copyOf(join(existing.future));
+                }
+                entries.remove(key, existing);
+            }
+
+            Entry mine = new Entry();
+            if (entries.putIfAbsent(key, mine) != null) {
+                continue; // 다른 스레드가 먼저 실행을 시작함
+            }
+
+            counter("skyline.flight.query.executions", method).increment();
+            try {
+                T result = loader.get();
+                mine.completedAtNanos = System.nanoTime();
+                mine.future.complete(result);
+                if (staleNanos == 0) {
+                    entries.remove(key, mine);
+                }
+                return copyOf(result);
+            } catch (RuntimeException | Error e) {
+                entries.remove(key, mine);
+                mine.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    // 재사용 기간이 지난 완료 항목 정리
+    @Scheduled(fixedDelayString = "${skyline.coalescing.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(entry -> entry.getValue().isExpired(now, staleNanos));
+    }
+
+    // 공유 항목에 남는 원본은 누구에게도 넘기지 않음
+    @SuppressWarnings("unchecked")
+    private static <T> T copyOf(Object result) {
+        if (result instanceof Flight flight) {
+            return (T) flight.copy();
+        }
+        if (result instanceof Optional<?> optional) {
+            return (T) optional.map(FlightQueryCoalescer::copyOf);
+        }
+        if (result instanceof List<?> list) {
+            return (T) list.stream().map(FlightQueryCoalescer::copyOf).toList();
+        }
+        return (T) result;
+    }
+
+    private Counter counter(String name, String method) {
+        return meterRegistry.counter(name, "method", method);
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
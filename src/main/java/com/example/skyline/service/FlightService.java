@@ -1,9 +1,13 @@
 package com.example.skyline.service;
 
 import com.example.skyline.entity.Flight;
+import com.example.skyline.pricing.PricingEngine;
 import com.example.skyline.repository.FlightRepository;
+import com.example.skyline.schedule.FlightScheduleCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -12,41 +16,57 @@ import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
+@Lazy(false)
 public class FlightService {
     
     private final FlightRepository flightRepository;
+    private final FlightScheduleCache scheduleCache;
+    private final PricingEngine pricingEngine;
     
     @Autowired
-    public FlightService(FlightRepository flightRepository) {
+    public FlightService(FlightRepository flightRepository, FlightScheduleCache scheduleCache,
+                         PricingEngine pricingEngine) {
         this.flightRepository = flightRepository;
+        this.scheduleCache = scheduleCache;
+        this.pricingEngine = pricingEngine;
     }
     
     public List<Flight> getAllFlights() {
-        return flightRepository.findAll();
+        return priced(flightRepository.findAll());
     }
     
     public Optional<Flight> getFlightById(Long id) {
+        return flightRepository.findById(id).map(pricingEngine::price);
+    }
+    
+    // 예약 등 내부 처리용 영속 엔티티 (운임 미적용)
+    public Optional<Flight> findFlight(Long id) {
         return flightRepository.findById(id);
     }
     
     public List<Flight> getFlightsByNumber(String flightNumber) {
-        return flightRepository.findByFlightNumber(flightNumber);
+        return priced(flightRepository.findByFlightNumber(flightNumber));
     }
     
+    // 스냅샷에서 응답하면 트랜잭션(커넥션)을 시작하지 않도록 SUPPORTS
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<Flight> searchFlights(String departureAirport, String arrivalAirport, LocalDate date) {
-        return flightRepository.findFlightsByRoute(departureAirport, arrivalAirport, date);
+        return priced(scheduleCache.search(departureAirport, arrivalAirport, date)
+                // DATE(departure_time) 비교 대신 범위 조건으로 idx_route_date 인덱스 사용
+                .orElseGet(() -> flightRepository.findFlightsByRoute(departureAirport, arrivalAirport,
+                        date.atStartOfDay(), date.plusDays(1).atStartOfDay())));
     }
     
     public List<Flight> getAvailableFlights() {
-        return flightRepository.findAvailableFlights();
+        return priced(flightRepository.findAvailableFlights());
     }
     
     public List<Flight> getFlightsByDepartureAirport(String airportCode) {
-        return flightRepository.findByDepartureAirport_AirportCode(airportCode);
+        return priced(flightRepository.findByDepartureAirport_AirportCode(airportCode));
     }
     
     public List<Flight> getFlightsByArrivalAirport(String airportCode) {
-        return flightRepository.findByArrivalAirport_AirportCode(airportCode);
+        return priced(flightRepository.findByArrivalAirport_AirportCode(airportCode));
     }
     
     @Transactional
@@ -54,31 +74,27 @@ public class FlightService {
         return flightRepository.save(flight);
     }
     
+    // 조회 후 저장하면 동시 예약이 같은 좌석 수를 읽고 덮어쓰므로 조건부 UPDATE 한 번으로 처리
     @Transactional
     public boolean decreaseAvailableSeats(Long flightId) {
-        Optional<Flight> flightOpt = flightRepository.findById(flightId);
-        if (flightOpt.isPresent()) {
-            Flight flight = flightOpt.get();
-            if (flight.getAvailableSeats() > 0) {
-                flight.setAvailableSeats(flight.getAvailableSeats() - 1);
-                flightRepository.save(flight);
-                return true;
-            }
-        }
-        return false;
+        return flightRepository.decrementAvailableSeat(flightId) > 0;
     }
     
     @Transactional
     public boolean increaseAvailableSeats(Long flightId) {
-        Optional<Flight> flightOpt = flightRepository.findById(flightId);
-        if (flightOpt.isPresent()) {
-            Flight flight = flightOpt.get();
-            if (flight.getAvailableSeats() < flight.getTotalSeats()) {
-                flight.setAvailableSeats(flight.getAvailableSeats() + 1);
-                flightRepository.save(flight);
-                return true;
-            }
+        return flightRepository.incrementAvailableSeat(flightId) > 0;
+    }
+    
+    @Transactional
+    public boolean increaseAvailableSeats(Long flightId, int seats) {
+        if (seats <= 0) {
+            return false;
         }
-        return false;
+        return flightRepository.increaseAvailableSeatsBy(flightId, seats) > 0;
+    }
+    
+    // 조회 결과의 좌석 수 기준으로 운임표 칸을 골라 현재 운임을 설정한 응답용 복사본
+    private List<Flight> priced(List<Flight> flights) {
+        return pricingEngine.price(flights);
     }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.example.skyline.service;
+
+import com.example.skyline.dto.BulkUpdateRequest;
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.entity.Reservation;
+import com.example.skyline.inventory.SeatInventoryRouter;
+import com.example.skyline.outbox.OutboxService;
+import com.example.skyline.repository.ReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 예약 대량 취소/수정: 항공편 단위 일괄 UPDATE + 좌석 수 1회 보정, 청크별 트랜잭션으로 백그라운드 실행
+// 좌석 수는 애플리케이션에서만 보정 (sql/schema.sql 의 좌석 트리거는 제거됨)
+@Service
+public class ReservationBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationBulkService.class);
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private static final String UPDATE_PASSENGER_SQL =
+            "UPDATE reservations SET passenger_name = ?, passenger_email = ?, passenger_phone = ?, seat_number = ? " +
+            "WHERE reservation_id = ?";
+
+    private final ReservationRepository reservationRepository;
+    private final SeatInventoryRouter seatInventoryRouter;
+    private final OutboxService outboxService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, bulkThreadFactory());
+
+    // 최근 작업만 보관 (등록 순서). 접근은 모두 jobs 로 동기화
+    private final Map<String, BulkJob> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public ReservationBulkService(ReservationRepository reservationRepository,
+                                  SeatInventoryRouter seatInventoryRouter,
+                                  OutboxService outboxService,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${skyline.bulk.chunk-size:500}") int chunkSize) {
+        this.reservationRepository = reservationRepository;
+        this.seatInventoryRouter = seatInventoryRouter;
+        this.outboxService = outboxService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkJob cancelByFlight(Long flightId) {
+        long total = reservationRepository.countByFlight_FlightIdAndStatus(
+                flightId, Reservation.ReservationStatus.CONFIRMED);
+        BulkJob job = new BulkJob("CANCEL_BY_FLIGHT", flightId, total);
+        retain(job);
+        executor.execute(() -> runCancelByFlight(job, flightId));
+        return job;
+    }
+
+    public Optional<BulkJob> getJob(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    // 보관 한도를 넘으면 끝난 작업부터 오래된 순으로 정리. 대기/실행 중인 작업은 조회할 수 있도록 남김
+    private void retain(BulkJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getJobId(), job);
+            Iterator<BulkJob> iterator = jobs.values().iterator();
+            while (jobs.size() > MAX_RETAINED_JOBS && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    // ID 목록 일괄 취소: 확정 예약 행을 잠근 뒤 항공편별 UPDATE 한 번, 갱신된 행 수만큼 좌석을 한 번에 반환
+    @Transactional
+    public int cancelReservations(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> lockedByFlight = new LinkedHashMap<>();
+        for (Object[] row : reservationRepository.lockConfirmedByIds(reservationIds)) {
+            lockedByFlight.computeIfAbsent(((Number) row[1]).longValue(), flightId -> new ArrayList<>())
+                    .add(((Number) row[0]).longValue());
+        }
+        // 잠근 행은 다른 트랜잭션이 바꿀 수 없으므로 잠근 ID = 실제로 취소된 ID
+        List<Long> cancelledIds = new ArrayList<>();
+        for (Map.Entry<Long, List<Long>> entry : lockedByFlight.entrySet()) {
+            int cancelled = reservationRepository.updateStatusByFlightAndIds(entry.getKey(), entry.getValue(),
+                    Reservation.ReservationStatus.CONFIRMED, Reservation.ReservationStatus.CANCELLED);
+            seatInventoryRouter.increase(entry.getKey(), cancelled);
+            cancelledIds.addAll(entry.getValue());
+        }
+        if (!cancelledIds.isEmpty()) {
+            outboxService.record(OutboxEvent.EventType.RESERVATIONS_CANCELLED, null, null,
+                    Map.of("reservationIds", cancelledIds, "cancelled", cancelledIds.size()));
+        }
+        return cancelledIds.size();
+    }
+
+    // 예약 정보 일괄 수정: 건별 findById/save 대신 JDBC 배치 UPDATE 한 번 (좌석/상태는 바뀌지 않음)
+    @Transactional
+    public int updateReservations(List<BulkUpdateRequest.Change> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(changes.size());
+        for (BulkUpdateRequest.Change change : changes) {
+            args.add(new Object[] {change.passengerName(), change.passengerEmail(), change.passengerPhone(),
+                    change.seatNumber(), change.reservationId()});
+        }
+        int updated = 0;
+        boolean countsUnknown = false;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_PASSENGER_SQL, args)) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                countsUnknown = true;
+            } else {
+                updated += Math.max(count, 0);
+            }
+        }
+        if (countsUnknown) {
+            // 드라이버가 배치를 재작성하면 건별 행 수 대신 SUCCESS_NO_INFO 를 돌려주므로
+            // 같은 트랜잭션에서 존재하는 예약 ID 를 다시 조회해 실제로 갱신된 행 수로 보고 (PK 조건이라 존재 = 갱신)
+            Set<Long> ids = new LinkedHashSet<>();
+            for (BulkUpdateRequest.Change change : changes) {
+                ids.add(change.reservationId());
+            }
+            return (int) reservationRepository.countByReservationIdIn(ids);
+        }
+        return updated;
+    }
+
+    private void runCancelByFlight(BulkJob job, Long flightId) {
+        job.markRunning();
+        try {
+            long afterId = 0L;
+            while (true) {
+                Long upToId = lastIdOfNextChunk(flightId, afterId);
+                if (upToId == null) {
+                    break;
+                }
+                long from = afterId;
+                Integer cancelled = transactionTemplate.execute(status -> cancelChunk(flightId, from, upToId));
+                job.addChunk(cancelled == null ? 0 : cancelled);
+                afterId = upToId;
+            }
+            job.markCompleted();
+            log.info("항공편 {} 예약 일괄 취소 완료: {}", flightId, job.toStatus());
+        } catch (RuntimeException e) {
+            job.markFailed(e.getMessage());
+            log.error("항공편 {} 예약 일괄 취소 실패", flightId, e);
+        }
+    }
+
+    private Long lastIdOfNextChunk(Long flightId, long afterId) {
+        List<Long> ids = reservationRepository.findIdsByFlightAfter(flightId,
+                Reservation.ReservationStatus.CONFIRMED, afterId, PageRequest.of(0, chunkSize));
+        return ids.isEmpty() ? null : ids.get(ids.size() - 1);
+    }
+
+    // 한 청크: 범위의 확정 예약 행을 잠근 뒤 UPDATE ... WHERE flight_id = ? AND 잠근 ID,
+    // 좌석 보정은 UPDATE 가 실제로 바꾼 행 수로 1회
+    private int cancelChunk(Long flightId, long afterId, long upToId) {
+        List<Long> lockedIds = reservationRepository.lockConfirmedIdsByFlightInRange(flightId, afterId, upToId);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+        int cancelled = reservationRepository.updateStatusByFlightAndIds(flightId, lockedIds,
+                Reservation.ReservationStatus.CONFIRMED, Reservation.ReservationStatus.CANCELLED);
+        seatInventoryRouter.increase(flightId, cancelled);
+        // 청크 단위 이벤트: 이 청크에서 실제로 취소된 예약 ID
+        outboxService.record(OutboxEvent.EventType.FLIGHT_RESERVATIONS_CANCELLED, null, flightId,
+                Map.of("flightId", flightId, "reservationIds", lockedIds, "cancelled", cancelled));
+        return cancelled;
+    }
+
+    private static ThreadFactory bulkThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "reservation-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
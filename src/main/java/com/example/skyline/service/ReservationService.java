@@ -1,9 +1,13 @@
 package com.example.skyline.service;
 
 import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.OutboxEvent;
 import com.example.skyline.entity.Reservation;
+import com.example.skyline.inventory.SeatInventoryRouter;
+import com.example.skyline.outbox.OutboxService;
 import com.example.skyline.repository.ReservationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,16 +16,23 @@ import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
+@Lazy(false)
 public class ReservationService {
     
     private final ReservationRepository reservationRepository;
     private final FlightService flightService;
+    private final OutboxService outboxService;
+    private final SeatInventoryRouter seatInventoryRouter;
     
     @Autowired
     public ReservationService(ReservationRepository reservationRepository, 
-                            FlightService flightService) {
+                            FlightService flightService,
+                            OutboxService outboxService,
+                            SeatInventoryRouter seatInventoryRouter) {
         this.reservationRepository = reservationRepository;
         this.flightService = flightService;
+        this.outboxService = outboxService;
+        this.seatInventoryRouter = seatInventoryRouter;
     }
     
     public List<Reservation> getAllReservations() {
@@ -43,7 +54,7 @@ public class ReservationService {
     @Transactional
     public Optional<Reservation> createReservation(Reservation reservation) {
         // 항공편 존재 여부 확인
-        Optional<Flight> flightOpt = flightService.getFlightById(reservation.getFlight().getFlightId());
+        Optional<Flight> flightOpt = flightService.findFlight(reservation.getFlight().getFlightId());
         if (flightOpt.isEmpty()) {
             return Optional.empty();
         }
@@ -51,10 +62,11 @@ public class ReservationService {
         Flight flight = flightOpt.get();
         reservation.setFlight(flight);
         
-        // 좌석 감소
-        if (flightService.decreaseAvailableSeats(flight.getFlightId())) {
+        // 좌석 감소 (샤딩 시 항공편 소유 노드에서 처리)
+        if (seatInventoryRouter.decrease(flight.getFlightId())) {
             reservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
             Reservation savedReservation = reservationRepository.save(reservation);
+            outboxService.recordReservationEvent(OutboxEvent.EventType.RESERVATION_CREATED, savedReservation);
             return Optional.of(savedReservation);
         }
         
@@ -80,13 +92,16 @@ public class ReservationService {
         Optional<Reservation> reservationOpt = reservationRepository.findById(id);
         if (reservationOpt.isPresent()) {
             Reservation reservation = reservationOpt.get();
+            Long flightId = reservation.getFlight().getFlightId();
             
-            // 좌석 증가
-            flightService.increaseAvailableSeats(reservation.getFlight().getFlightId());
-            
-            // 예약 상태를 취소로 변경
-            reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
-            reservationRepository.save(reservation);
+            // 확정 상태일 때만 취소로 변경 (조건부 UPDATE 라 동시 취소/일괄 취소와 겹쳐도 좌석은 한 번만 반환)
+            int cancelled = reservationRepository.updateStatusByIds(List.of(id),
+                    Reservation.ReservationStatus.CONFIRMED, Reservation.ReservationStatus.CANCELLED);
+            if (cancelled > 0) {
+                seatInventoryRouter.increase(flightId, cancelled);
+                reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
+                outboxService.recordReservationEvent(OutboxEvent.EventType.RESERVATION_CANCELLED, reservation);
+            }
             
             return true;
         }
@@ -101,9 +116,10 @@ public class ReservationService {
             
             // 예약이 확정상태인 경우에만 좌석 증가
             if (reservation.getStatus() == Reservation.ReservationStatus.CONFIRMED) {
-                flightService.increaseAvailableSeats(reservation.getFlight().getFlightId());
+                seatInventoryRouter.increase(reservation.getFlight().getFlightId(), 1);
             }
             
+            outboxService.recordReservationEvent(OutboxEvent.EventType.RESERVATION_DELETED, reservation);
             reservationRepository.deleteById(id);
         }
     }
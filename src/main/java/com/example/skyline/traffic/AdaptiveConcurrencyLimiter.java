@@ -0,0 +1,140 @@
+package com.example.skyline.traffic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// 관측 지연시간 기반 AIMD 동시 처리 한도
+// 지연이 기준(경로별 최근 윈도우 최소 지연 x tolerance)을 넘거나 오류/타임아웃이면 한도를 곱셈 감소,
+// 한도 가까이 사용 중이면서 지연이 정상이면 요청마다 1/limit 씩 (RTT 당 약 +1) 증가
+// 기준을 경로별로 두므로 1ms 미만 스냅샷 조회가 DB 를 쓰는 예약 요청의 기준을 끌어내리지 않음
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // 기준 지연이 매우 짧을 때(스냅샷 조회 등) GC 등 작은 지연 변동을 혼잡으로 보지 않기 위한 여유
+    private static final long MIN_SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long DECREASE_SPACING_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    // 경로 키는 핸들러 패턴이라 개수가 제한적이지만, 넘치면 나머지는 하나의 기준을 공유
+    static final int MAX_ROUTES = 256;
+    static final String OTHER_ROUTE = "other";
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readShare;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final long maxLatencyNanos;
+    private final long windowNanos;
+
+    private double limit;
+    private int inflight;
+    private final Map<String, Baseline> baselines = new HashMap<>();
+    private long lastDecreaseNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${skyline.shedding.initial-limit:20}") int initialLimit,
+                                      @Value("${skyline.shedding.min-limit:4}") int minLimit,
+                                      @Value("${skyline.shedding.max-limit:200}") int maxLimit,
+                                      @Value("${skyline.shedding.read-share:0.7}") double readShare,
+                                      @Value("${skyline.shedding.latency-tolerance:2.0}") double tolerance,
+                                      @Value("${skyline.shedding.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${skyline.shedding.max-latency-ms:2000}") long maxLatencyMs,
+                                      @Value("${skyline.shedding.baseline-window-ms:10000}") long windowMs) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readShare = readShare;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_SPACING_NANOS;
+        meterRegistry.gauge("skyline.shedding.limit", this, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("skyline.shedding.inflight", this, AdaptiveConcurrencyLimiter::getInflight);
+    }
+
+    public synchronized boolean tryAcquire(RequestPriority priority) {
+        if (inflight >= allowed(priority)) {
+            return false;
+        }
+        inflight++;
+        return true;
+    }
+
+    // route: 요청 경로 (메서드 + 핸들러 패턴), dropped: 5xx/예외 등 과부하 신호
+    public synchronized void release(String route, long rttNanos, boolean dropped) {
+        inflight--;
+        long now = System.nanoTime();
+        Baseline baseline = baselines.get(route);
+        if (baseline == null) {
+            baseline = baselines.computeIfAbsent(baselines.size() < MAX_ROUTES ? route : OTHER_ROUTE,
+                    key -> new Baseline(now));
+        }
+        baseline.update(rttNanos, now, windowNanos);
+
+        long threshold = Math.max((long) (baseline.rttNanos * tolerance), baseline.rttNanos + MIN_SLACK_NANOS);
+        boolean overloaded = dropped || rttNanos > maxLatencyNanos || rttNanos > threshold;
+        if (overloaded) {
+            // 같은 혼잡에 대해 연속 감소하지 않도록 최소 10ms 간격을 둠
+            if (now - lastDecreaseNanos >= DECREASE_SPACING_NANOS) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = now;
+            }
+        } else if (inflight + 1 >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInflight() {
+        return inflight;
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("limit", (int) limit);
+        status.put("read_limit", allowed(RequestPriority.READ));
+        status.put("inflight", inflight);
+        Map<String, Double> baselineRtt = new TreeMap<>();
+        baselines.forEach((route, baseline) -> baselineRtt.put(route, baseline.rttNanos / 1_000_000.0));
+        status.put("baseline_rtt_ms", baselineRtt);
+        return status;
+    }
+
+    private int allowed(RequestPriority priority) {
+        int total = (int) limit;
+        return priority == RequestPriority.WRITE ? total : Math.max(1, (int) (total * readShare));
+    }
+
+    // 기준 지연: 직전/현재 윈도우의 최소값 (DB 특성 변화에 따라 윈도우마다 갱신)
+    private static final class Baseline {
+        private long rttNanos = Long.MAX_VALUE;
+        private long windowMinNanos = Long.MAX_VALUE;
+        private long windowStartNanos;
+
+        private Baseline(long now) {
+            this.windowStartNanos = now;
+        }
+
+        private void update(long sampleNanos, long now, long windowNanos) {
+            windowMinNanos = Math.min(windowMinNanos, sampleNanos);
+            rttNanos = Math.min(rttNanos, sampleNanos);
+            if (now - windowStartNanos > windowNanos) {
+                rttNanos = windowMinNanos;
+                windowMinNanos = Long.MAX_VALUE;
+                windowStartNanos = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.skyline.traffic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 클라이언트 키 x 우선순위별 토큰 버킷 (조회/변경 한도를 따로 적용)
+@Component
+public class ClientRateLimiter {
+
+    private record Key(String client, RequestPriority priority) {
+    }
+
+    private final ConcurrentHashMap<Key, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double readRate;
+    private final double readBurst;
+    private final double writeRate;
+    private final double writeBurst;
+    private final long idleNanos;
+
+    @Autowired
+    public ClientRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${skyline.shedding.read-rate-per-second:50}") double readRate,
+                             @Value("${skyline.shedding.read-burst:100}") double readBurst,
+                             @Value("${skyline.shedding.write-rate-per-second:5}") double writeRate,
+                             @Value("${skyline.shedding.write-burst:20}") double writeBurst,
+                             @Value("${skyline.shedding.client-idle-ms:600000}") long idleMs) {
+        this.readRate = readRate;
+        this.readBurst = readBurst;
+        this.writeRate = writeRate;
+        this.writeBurst = writeBurst;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        meterRegistry.gaugeMapSize("skyline.shedding.clients", Tags.empty(), buckets);
+    }
+
+    // 허용되면 0, 아니면 재시도까지 남은 시간(ns)
+    public long tryAcquire(String client, RequestPriority priority) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(new Key(client, priority), key -> priority == RequestPriority.READ
+                ? new TokenBucket(readRate, readBurst, now)
+                : new TokenBucket(writeRate, writeBurst, now));
+        return bucket.tryConsume(now);
+    }
+
+    // 오래 사용하지 않은 클라이언트 버킷 정리 (다시 오면 가득 찬 버킷으로 시작)
+    @Scheduled(fixedDelayString = "${skyline.shedding.client-purge-interval-ms:60000}")
+    public void purgeIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> now - bucket.getLastUsedNanos() > idleNanos);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.skyline.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// /api/** 요청에 클라이언트별 토큰 버킷(429)과 적응형 동시 처리 한도(503)를 적용
+// 대기열 없이 즉시 거절하므로 DB 가 느려져도 요청이 커넥션 타임아웃(30초)까지 쌓이지 않음
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ClientRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String clientHeader;
+    private final TrustedProxies trustedProxies;
+
+    @Autowired
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter concurrencyLimiter,
+                              ClientRateLimiter rateLimiter,
+                              MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper,
+                              @Value("${skyline.shedding.enabled:true}") boolean enabled,
+                              @Value("${skyline.shedding.client-header:X-Client-Id}") String clientHeader,
+                              @Value("${skyline.shedding.trusted-proxies:}") String[] trustedProxies) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = new TrustedProxies(trustedProxies);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPriority priority = RequestPriority.of(request.getMethod());
+
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request), priority);
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "rate_limited", priority, retryAfter);
+            return;
+        }
+        if (!concurrencyLimiter.tryAcquire(priority)) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "overloaded", priority, 1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            concurrencyLimiter.release(route(request), System.nanoTime() - start, dropped);
+        }
+    }
+
+    // 핸들러 패턴 기준 경로 (/api/flights/{id} 등), 매핑되지 않은 요청(404 등)은 하나로 묶음
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        // 식별 헤더는 클라이언트가 임의로 바꿀 수 있으므로 신뢰하는 프록시를 거친 요청에서만 사용, 그 외에는 원격 주소
+        String remoteAddr = request.getRemoteAddr();
+        if (clientHeader.isEmpty() || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String client = request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? remoteAddr : client.trim();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String reason,
+                        RequestPriority priority, long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("skyline.shedding.rejected", "reason", reason, "priority", priority.tag()).increment();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", reason);
+        body.put("retry_after_seconds", retryAfterSeconds);
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.skyline.traffic;
+
+// 조회(GET/HEAD)는 가볍고 재시도가 쉬우므로 과부하 시 먼저 차단, 예약 변경은 전체 한도 사용
+public enum RequestPriority {
+    READ, WRITE;
+
+    public static RequestPriority of(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.skyline.traffic;
+
+import java.util.concurrent.TimeUnit;
+
+// 초당 ratePerSecond 개씩 채워지고 최대 burst 개까지 쌓이는 토큰 버킷
+public class TokenBucket {
+
+    private final double ratePerNano;
+    private final double burst;
+
+    private double tokens;
+    private long refilledAtNanos;
+    private volatile long lastUsedNanos;
+
+    public TokenBucket(double ratePerSecond, double burst, long nowNanos) {
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAtNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+
+    // 토큰을 얻으면 0, 아니면 다음 토큰까지 남은 시간(ns)
+    public synchronized long tryConsume(long nowNanos) {
+        tokens = Math.min(burst, tokens + (nowNanos - refilledAtNanos) * ratePerNano);
+        refilledAtNanos = nowNanos;
+        lastUsedNanos = nowNanos;
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return 0;
+        }
+        return (long) Math.ceil((1.0 - tokens) / ratePerNano);
+    }
+
+    public long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.skyline.traffic;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 클라이언트 식별 헤더를 믿을 수 있는 프록시/게이트웨이 주소 목록 (IP 또는 CIDR, 예: 10.0.0.0/8)
+final class TrustedProxies {
+
+    private final List<Range> ranges = new ArrayList<>();
+
+    TrustedProxies(String[] entries) {
+        for (String entry : entries) {
+            String value = entry.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            int slash = value.indexOf('/');
+            byte[] network = parse(slash < 0 ? value : value.substring(0, slash));
+            int prefix = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefix < 0 || prefix > network.length * 8) {
+                throw new IllegalArgumentException("잘못된 프록시 주소 범위: " + value);
+            }
+            ranges.add(new Range(network, prefix));
+        }
+    }
+
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    boolean contains(String address) {
+        if (ranges.isEmpty() || address == null) {
+            return false;
+        }
+        byte[] bytes;
+        try {
+            bytes = parse(address);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        for (Range range : ranges) {
+            if (range.matches(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 숫자 주소만 허용 (호스트 이름은 DNS 조회가 일어나므로 거부)
+    private static byte[] parse(String address) {
+        boolean literal = address.indexOf(':') >= 0
+                ? address.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == ':' || c == '.')
+                : !address.isEmpty() && address.chars().allMatch(c -> Character.isDigit(c) || c == '.');
+        if (!literal) {
+            throw new IllegalArgumentException("IP 주소가 아닙니다: " + address);
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("IP 주소가 아닙니다: " + address, e);
+        }
+    }
+
+    private record Range(byte[] network, int prefix) {
+
+        boolean matches(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.skyline.web;
+
+// 메모리에 적재된 정적 자산과 사전 압축본 (압축 이득이 없으면 null)
+public record StaticAsset(String path,
+                          String contentType,
+                          byte[] identity,
+                          byte[] gzip,
+                          byte[] brotli,
+                          String etag,
+                          String cacheControl) {
+}
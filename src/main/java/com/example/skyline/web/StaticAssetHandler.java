@@ -0,0 +1,143 @@
+package com.example.skyline.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+
+import java.io.IOException;
+import java.util.List;
+
+// 메모리 색인에서 정적 자산 제공. 디스크/클래스패스 조회 없이 경로 맵 조회만으로 SPA 폴백 여부 결정
+@Component
+public class StaticAssetHandler implements HttpRequestHandler {
+
+    // SPA 로 넘기지 않고 404 를 반환할 서버 경로
+    private static final List<String> SERVER_PREFIXES = List.of("/api/", "/internal/", "/actuator/", "/stress/", "/admin/");
+
+    private final StaticAssetIndex index;
+
+    @Autowired
+    public StaticAssetHandler(StaticAssetIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        StaticAsset asset = index.find("/".equals(path) ? StaticAssetIndex.INDEX_PATH : path);
+        if (asset == null && isClientRoute(path)) {
+            // React Router 경로: index.html 로 응답 (캐시하지 않고 매번 재검증)
+            asset = index.getIndexPage();
+        }
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        write(request, response, asset, "HEAD".equals(method));
+    }
+
+    // 서버 API 경로나 확장자가 있는 경로(누락된 js/css 등)는 index.html 로 대체하지 않음
+    private static boolean isClientRoute(String path) {
+        for (String prefix : SERVER_PREFIXES) {
+            if (path.startsWith(prefix) || path.equals(prefix.substring(0, prefix.length() - 1))) {
+                return false;
+            }
+        }
+        String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+        return !lastSegment.contains(".");
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, StaticAsset asset,
+                              boolean headOnly) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = asset.identity();
+        String encoding = null;
+        if (asset.brotli() != null && accepts(acceptEncoding, "br")) {
+            body = asset.brotli();
+            encoding = "br";
+        } else if (asset.gzip() != null && accepts(acceptEncoding, "gzip")) {
+            body = asset.gzip();
+            encoding = "gzip";
+        }
+        // 표현(인코딩)마다 바이트가 다르므로 ETag 도 구분 (캐시/프록시가 다른 인코딩 본문을 재사용하지 않도록)
+        String etag = etag(asset, encoding);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.cacheControl());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentType(asset.contentType());
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setContentLength(body.length);
+        if (!headOnly) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    // 원본 ETag("<해시>") 에 인코딩 접미사를 붙임: "<해시>-br", "<해시>-gz"
+    private static String etag(StaticAsset asset, String encoding) {
+        if (encoding == null) {
+            return asset.etag();
+        }
+        String suffix = "br".equals(encoding) ? "-br" : "-gz";
+        String base = asset.etag();
+        return base.substring(0, base.length() - 1) + suffix + "\"";
+    }
+
+    // If-None-Match 는 ETag 목록 (약한 비교: W/ 접두사 무시) 또는 *
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Accept-Encoding 에서 q=0 으로 거부되지 않은 인코딩인지 확인
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.skyline.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// 번들된 프론트엔드(classpath:/static) 를 기동 시 한 번 색인해 메모리에서 제공
+// 빌드 시 만든 .br/.gz 가 있으면 그대로 쓰고, .gz 가 없으면 기동 시 gzip 으로 압축
+@Component
+@Lazy(false)
+public class StaticAssetIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticAssetIndex.class);
+
+    public static final String INDEX_PATH = "/index.html";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE = "no-cache";
+    private static final int MIN_COMPRESS_BYTES = 1024;
+    private static final Set<String> COMPRESSIBLE_SUBTYPES = Set.of(
+            "javascript", "json", "xml", "svg+xml", "manifest+json");
+
+    private final Map<String, StaticAsset> assets;
+
+    @Autowired
+    public StaticAssetIndex(@Value("${skyline.static.location:classpath:/static/}") String location,
+                            @Value("${skyline.static.immutable-prefix:/assets/}") String immutablePrefix) {
+        long start = System.nanoTime();
+        this.assets = load(location, immutablePrefix);
+        long bytes = assets.values().stream().mapToLong(asset -> asset.identity().length).sum();
+        log.info("정적 자산 색인: {}개, {}bytes, {}ms", assets.size(), bytes,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    public StaticAsset find(String path) {
+        return assets.get(path);
+    }
+
+    public StaticAsset getIndexPage() {
+        return assets.get(INDEX_PATH);
+    }
+
+    private static Map<String, StaticAsset> load(String location, String immutablePrefix) {
+        String base = location.endsWith("/") ? location : location + "/";
+        Map<String, byte[]> files = new HashMap<>();
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            for (Resource resource : resolver.getResources(base + "**")) {
+                if (!resource.isReadable()) {
+                    continue; // 디렉터리
+                }
+                String path = relativePath(resource, base, resolver.getResource(base));
+                if (path != null) {
+                    files.put(path, resource.getContentAsByteArray());
+                }
+            }
+        } catch (IOException e) {
+            // 프론트엔드 없이 빌드된 경우 (API 전용)
+            log.warn("정적 자산을 색인할 수 없습니다: {}", e.getMessage());
+            return Map.of();
+        }
+
+        Map<String, StaticAsset> index = new HashMap<>();
+        files.forEach((path, content) -> {
+            if (path.endsWith(".br") || path.endsWith(".gz")) {
+                return; // 원본 자산의 압축본으로만 사용
+            }
+            MediaType mediaType = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            byte[] gzip = files.get(path + ".gz");
+            if (gzip == null && isCompressible(mediaType) && content.length >= MIN_COMPRESS_BYTES) {
+                gzip = gzip(content);
+            }
+            if (gzip != null && gzip.length >= content.length) {
+                gzip = null;
+            }
+            String cacheControl = path.startsWith(immutablePrefix) ? IMMUTABLE : REVALIDATE;
+            index.put(path, new StaticAsset(path, contentType(mediaType), content, gzip,
+                    files.get(path + ".br"), etag(content), cacheControl));
+        });
+        return Map.copyOf(index);
+    }
+
+    private static String relativePath(Resource resource, String base, Resource root) throws IOException {
+        String rootUrl = root.getURL().toString();
+        String url = resource.getURL().toString();
+        if (!url.startsWith(rootUrl)) {
+            return null;
+        }
+        String relative = url.substring(rootUrl.length());
+        return relative.isEmpty() || relative.endsWith("/") ? null : "/" + relative;
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        return "text".equals(mediaType.getType()) || COMPRESSIBLE_SUBTYPES.contains(mediaType.getSubtype());
+    }
+
+    private static String contentType(MediaType mediaType) {
+        if ("text".equals(mediaType.getType()) || "javascript".equals(mediaType.getSubtype())) {
+            return mediaType + ";charset=UTF-8";
+        }
+        return mediaType.toString();
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- 로컬/CI(H2) 프로필 초기 데이터
+
+-- Hibernate 가 만든 flights.updated_at 에 MySQL 스키마와 같은 기본값/자동 갱신 적용 (스케줄 델타 조회용)
+ALTER TABLE flights ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE flights ALTER COLUMN updated_at SET ON UPDATE CURRENT_TIMESTAMP;
+
+INSERT INTO airports (airport_code, airport_name, city, country) VALUES
+('ICN', '인천국제공항', '서울', '대한민국'),
+('GMP', '김포국제공항', '서울', '대한민국'),
+('PUS', '김해국제공항', '부산', '대한민국'),
+('CJU', '제주국제공항', '제주', '대한민국'),
+('NRT', '나리타국제공항', '도쿄', '일본'),
+('KIX', '간사이국제공항', '오사카', '일본');
+
+-- 30일 x 20편 = 600편 (출발/도착 공항 순환, 다음 날부터 출발)
+-- DATABASE_TO_LOWER 설정에서도 SYSTEM_RANGE 의 컬럼명은 대문자 "X" 이므로 인용해서 참조
+INSERT INTO flights (flight_number, departure_airport, arrival_airport, departure_time, arrival_time, aircraft_type, total_seats, available_seats, price)
+SELECT CONCAT('LC', LPAD(CAST(n AS VARCHAR), 4, '0')),
+       CASE MOD(n, 6) WHEN 0 THEN 'ICN' WHEN 1 THEN 'GMP' WHEN 2 THEN 'PUS' WHEN 3 THEN 'CJU' WHEN 4 THEN 'NRT' ELSE 'KIX' END,
+       CASE MOD(n + 1 + MOD(n, 5), 6) WHEN 0 THEN 'ICN' WHEN 1 THEN 'GMP' WHEN 2 THEN 'PUS' WHEN 3 THEN 'CJU' WHEN 4 THEN 'NRT' ELSE 'KIX' END,
+       DATEADD('MINUTE', n * 72, DATEADD('DAY', 1, CAST(CURRENT_DATE AS TIMESTAMP))),
+       DATEADD('MINUTE', n * 72 + 150, DATEADD('DAY', 1, CAST(CURRENT_DATE AS TIMESTAMP))),
+       'Airbus A320',
+       1000,
+       1000,
+       150000.00 + MOD(n, 20) * 10000
+FROM (SELECT "X" AS n FROM SYSTEM_RANGE(1, 600)) seq;
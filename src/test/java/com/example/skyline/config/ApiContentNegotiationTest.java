@@ -0,0 +1,164 @@
+package com.example.skyline.config;
+
+import com.example.skyline.controller.FlightController;
+import com.example.skyline.controller.ReservationController;
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.Reservation;
+import com.example.skyline.outbox.OutboxService;
+import com.example.skyline.service.FlightQueryCoalescer;
+import com.example.skyline.service.FlightService;
+import com.example.skyline.service.ReservationBulkService;
+import com.example.skyline.service.ReservationService;
+import com.example.skyline.traffic.LoadSheddingFilter;
+import com.example.skyline.web.StaticAssetHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Accept 헤더별 응답 포맷(JSON/압축 JSON/Smile/CBOR)과 CompactResponseAdvice 변환 형태
+@WebMvcTest(controllers = {FlightController.class, ReservationController.class},
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = LoadSheddingFilter.class))
+class ApiContentNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FlightService flightService;
+    @MockBean
+    private FlightQueryCoalescer coalescer;
+    @MockBean
+    private ReservationService reservationService;
+    @MockBean
+    private ReservationBulkService reservationBulkService;
+    @MockBean
+    private OutboxService outboxService;
+    @MockBean
+    private StaticAssetHandler staticAssetHandler;
+
+    private Flight first;
+    private Flight second;
+
+    @BeforeEach
+    void setUp() {
+        Airport icn = new Airport("ICN", "Incheon", "Seoul", "KR");
+        Airport nrt = new Airport("NRT", "Narita", "Tokyo", "JP");
+        LocalDateTime departure = LocalDateTime.of(2026, 3, 1, 9, 0);
+        first = new Flight("SK101", icn, nrt, departure, departure.plusHours(2), "Airbus A320",
+                180, 120, new BigDecimal("250000.00"));
+        first.setFlightId(1L);
+        second = new Flight("SK102", nrt, icn, departure.plusHours(5), departure.plusHours(7), "Airbus A320",
+                180, 90, new BigDecimal("240000.00"));
+        second.setFlightId(2L);
+
+        when(coalescer.execute(anyString(), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
+        when(coalescer.execute(anyString(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
+        when(flightService.getAllFlights()).thenReturn(List.of(first, second));
+
+        Reservation a = new Reservation(first, "Kim", "kim@example.com", null, "1A");
+        a.setReservationId(10L);
+        Reservation b = new Reservation(first, "Lee", "lee@example.com", null, "1B");
+        b.setReservationId(11L);
+        Reservation c = new Reservation(second, "Park", "park@example.com", null, "2A");
+        c.setReservationId(12L);
+        when(reservationService.getAllReservations()).thenReturn(List.of(a, b, c));
+    }
+
+    @Test
+    void defaultsToPlainJsonList() throws Exception {
+        mockMvc.perform(get("/api/flights"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].flightNumber").value("SK101"))
+                .andExpect(jsonPath("$[0].departureAirport.airportCode").value("ICN"))
+                .andExpect(jsonPath("$[0].departureTime").value("2026-03-01T09:00:00"));
+    }
+
+    @Test
+    void compactFlightListReferencesAirportsByCode() throws Exception {
+        mockMvc.perform(get("/api/flights").accept(ApiMediaTypes.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ApiMediaTypes.COMPACT_JSON))
+                .andExpect(jsonPath("$.airports.length()").value(2))
+                .andExpect(jsonPath("$.airports.ICN.city").value("Seoul"))
+                .andExpect(jsonPath("$.flights.length()").value(2))
+                .andExpect(jsonPath("$.flights[0].departureAirport").value("ICN"))
+                .andExpect(jsonPath("$.flights[1].departureAirport").value("NRT"));
+    }
+
+    @Test
+    void compactReservationListIncludesEachFlightOnce() throws Exception {
+        mockMvc.perform(get("/api/reservations").accept(ApiMediaTypes.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.airports.length()").value(2))
+                .andExpect(jsonPath("$.flights.length()").value(2))
+                .andExpect(jsonPath("$.flights['1'].flightNumber").value("SK101"))
+                .andExpect(jsonPath("$.reservations.length()").value(3))
+                .andExpect(jsonPath("$.reservations[1].flightId").value(1))
+                .andExpect(jsonPath("$.reservations[2].flightId").value(2))
+                .andExpect(jsonPath("$.reservations[0].flight").doesNotExist());
+    }
+
+    @Test
+    void compactShapeAppliesOnlyToLists() throws Exception {
+        when(flightService.getFlightById(1L)).thenReturn(java.util.Optional.of(first));
+
+        mockMvc.perform(get("/api/flights/1").accept(ApiMediaTypes.COMPACT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.flightNumber").value("SK101"))
+                .andExpect(jsonPath("$.departureAirport.airportCode").value("ICN"));
+    }
+
+    @Test
+    void binaryFormatsCarryTheSameDocument() throws Exception {
+        JsonNode json = new ObjectMapper().readTree(body(MediaType.APPLICATION_JSON_VALUE));
+        JsonNode smile = new SmileMapper().readTree(body(ApiMediaTypes.SMILE_VALUE));
+        JsonNode cbor = new CBORMapper().readTree(body(ApiMediaTypes.CBOR_VALUE));
+
+        // 바이너리 포맷은 BigDecimal 을 그대로 싣고 JSON 은 double 로 읽히므로 숫자는 값으로 비교
+        Comparator<JsonNode> sameValue = (left, right) -> left.isNumber() && right.isNumber()
+                ? left.decimalValue().compareTo(right.decimalValue())
+                : left.equals(right) ? 0 : 1;
+        assertThat(smile.equals(sameValue, json)).as("smile: %s", smile).isTrue();
+        assertThat(cbor.equals(sameValue, json)).as("cbor: %s", cbor).isTrue();
+        assertThat(smile.at("/0/departureTime").asText()).isEqualTo("2026-03-01T09:00:00");
+    }
+
+    private byte[] body(String accept) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/flights").accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn();
+        return result.getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.skyline.controller;
+
+import com.example.skyline.outbox.OutboxService;
+import com.example.skyline.service.BulkJob;
+import com.example.skyline.service.ReservationBulkService;
+import com.example.skyline.service.ReservationService;
+import com.example.skyline.traffic.LoadSheddingFilter;
+import com.example.skyline.web.StaticAssetHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 예약 일괄 취소/수정은 관리자 토큰이 있어야만 실행
+@WebMvcTest(controllers = ReservationController.class,
+        properties = "skyline.admin.token=secret",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                classes = LoadSheddingFilter.class))
+class ReservationControllerTest {
+
+    private static final String CANCEL_BODY = "{\"reservationIds\":[1,2,3]}";
+    private static final String UPDATE_BODY = "{\"updates\":[{\"reservationId\":1,\"passengerName\":\"Kim\","
+            + "\"passengerEmail\":\"kim@example.com\",\"passengerPhone\":null,\"seatNumber\":\"1A\"}]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReservationService reservationService;
+    @MockBean
+    private ReservationBulkService reservationBulkService;
+    @MockBean
+    private OutboxService outboxService;
+    @MockBean
+    private StaticAssetHandler staticAssetHandler;
+
+    @Test
+    void bulkEndpointsRejectMissingToken() throws Exception {
+        mockMvc.perform(patch("/api/reservations/cancel")
+                        .contentType(MediaType.APPLICATION_JSON).content(CANCEL_BODY))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/api/reservations")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE_BODY))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/reservations/flight/1/cancel"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").exists());
+
+        verifyNoInteractions(reservationBulkService);
+    }
+
+    @Test
+    void bulkEndpointsRejectWrongToken() throws Exception {
+        mockMvc.perform(patch("/api/reservations/cancel").header("X-Admin-Token", "guess")
+                        .contentType(MediaType.APPLICATION_JSON).content(CANCEL_BODY))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/reservations/flight/1/cancel").header("X-Admin-Token", "secre"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(reservationBulkService);
+    }
+
+    @Test
+    void bulkEndpointsRunWithAdminToken() throws Exception {
+        when(reservationBulkService.cancelReservations(anyList())).thenReturn(2);
+        when(reservationBulkService.updateReservations(anyList())).thenReturn(1);
+        BulkJob job = new BulkJob("CANCEL_BY_FLIGHT", 1L, 10);
+        when(reservationBulkService.cancelByFlight(anyLong())).thenReturn(job);
+
+        mockMvc.perform(patch("/api/reservations/cancel").header("X-Admin-Token", "secret")
+                        .contentType(MediaType.APPLICATION_JSON).content(CANCEL_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.cancelled").value(2));
+        mockMvc.perform(patch("/api/reservations").header("X-Admin-Token", "secret")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+        mockMvc.perform(post("/api/reservations/flight/1/cancel").header("X-Admin-Token", "secret"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/reservations/jobs/" + job.getJobId()));
+
+        verify(reservationBulkService).cancelReservations(List.of(1L, 2L, 3L));
+        verify(reservationBulkService).updateReservations(any());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.skyline.dto;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.entity.Reservation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 항공편/예약 목록 응답 직렬화 CPU 비용 (포맷별, gzip 포함 여부). 결과 바이트 수는 Setup 에서 한 번 출력
+// 실행: scripts/run-benchmarks.sh PayloadSerializationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+
+    @Param({"json", "compact", "smile", "cbor"})
+    public String format;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    @Param({"flights", "reservations"})
+    public String payload;
+
+    // 목록 건수 (예약은 500개 항공편에 나눠 배정)
+    @Param({"10000"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private Object body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean compact = "compact".equals(format);
+        if ("reservations".equals(payload)) {
+            List<Reservation> list = sampleReservations(rows, sampleFlights(500));
+            body = compact ? CompactReservationList.from(list) : list;
+        } else {
+            List<Flight> list = sampleFlights(rows);
+            body = compact ? CompactFlightList.from(list) : list;
+        }
+        // Spring MVC 메시지 컨버터와 같은 방식으로 매퍼 구성
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        System.out.printf("%n[payload] payload=%s format=%s encoding=%s rows=%d bytes=%d%n",
+                payload, format, encoding, rows, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1 << 20);
+        try (OutputStream out = "gzip".equals(encoding) ? new GZIPOutputStream(buffer) : buffer) {
+            mapper.writeValue(out, body);
+        }
+        return buffer.toByteArray();
+    }
+
+    static List<Flight> sampleFlights(int count) {
+        List<Airport> airports = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            airports.add(new Airport("A" + (char) ('A' + i) + "X", "Airport " + i, "City " + i, "Country"));
+        }
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<Flight> list = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            Flight flight = new Flight(String.format("BX%05d", n),
+                    airports.get(n % airports.size()), airports.get((n + 1 + n % 5) % airports.size()),
+                    base.plusMinutes(n * 37L), base.plusMinutes(n * 37L + 150), "Airbus A320",
+                    180, 180 - n % 180, BigDecimal.valueOf(20_000_000L + (n % 50) * 1_000_000L, 2));
+            flight.setFlightId((long) n);
+            list.add(flight);
+        }
+        return list;
+    }
+
+    static List<Reservation> sampleReservations(int count, List<Flight> flights) {
+        LocalDateTime base = LocalDateTime.of(2025, 12, 1, 0, 0);
+        List<Reservation> list = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            Reservation reservation = new Reservation(flights.get(n % flights.size()), "Passenger " + n,
+                    "passenger" + n + "@example.com", String.format("010-%04d-%04d", n / 10_000, n % 10_000),
+                    (n % 30 + 1) + String.valueOf((char) ('A' + n % 6)));
+            reservation.setReservationId((long) n);
+            reservation.setReservationDate(base.plusMinutes(n));
+            if (n % 10 == 0) {
+                reservation.setStatus(Reservation.ReservationStatus.CANCELLED);
+            }
+            list.add(reservation);
+        }
+        return list;
+    }
+}
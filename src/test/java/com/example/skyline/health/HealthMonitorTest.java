@@ -0,0 +1,122 @@
+package com.example.skyline.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HealthMonitorTest {
+
+    private final HikariDataSource dataSource = mock(HikariDataSource.class);
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    private final Connection connection = mock(Connection.class);
+    private HealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getJdbcUrl()).thenReturn("jdbc:mysql://db/skyline");
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(connection.getMetaData()).thenReturn(metaData);
+        monitor = new HealthMonitor(dataSource, 5000, 0.8);
+    }
+
+    @Test
+    void startsInStartingStateUntilFirstCheck() {
+        assertThat(monitor.getSnapshot().status()).isEqualTo(HealthMonitor.Status.STARTING);
+    }
+
+    @Test
+    void reportsUpBelowSaturationThreshold() {
+        poolState(7, 3, 0);
+
+        monitor.check();
+
+        HealthMonitor.HealthSnapshot snapshot = monitor.getSnapshot();
+        assertThat(snapshot.status()).isEqualTo(HealthMonitor.Status.UP);
+        assertThat(snapshot.database()).containsEntry("status", "UP").containsEntry("type", "MySQL");
+        assertThat(snapshot.pool()).containsEntry("active", 7).containsEntry("max", 10);
+    }
+
+    @Test
+    void reportsDegradedAtEightyPercentActive() throws SQLException {
+        poolState(8, 2, 0);
+
+        monitor.check();
+
+        // 유휴 커넥션이 있으므로 DB 점검은 수행하고 결과는 DEGRADED
+        assertThat(monitor.getSnapshot().status()).isEqualTo(HealthMonitor.Status.DEGRADED);
+        assertThat(monitor.getSnapshot().database()).containsEntry("status", "UP");
+        verify(dataSource).getConnection();
+    }
+
+    @Test
+    void reportsDegradedWhenThreadsAwaitConnection() {
+        poolState(2, 1, 3);
+
+        monitor.check();
+
+        assertThat(monitor.getSnapshot().status()).isEqualTo(HealthMonitor.Status.DEGRADED);
+        assertThat(monitor.getSnapshot().pool()).containsEntry("pending_threads", 3);
+    }
+
+    @Test
+    void skipsDatabaseProbeWhenSaturatedWithoutIdleConnection() throws SQLException {
+        poolState(10, 0, 5);
+
+        monitor.check();
+
+        HealthMonitor.HealthSnapshot snapshot = monitor.getSnapshot();
+        assertThat(snapshot.status()).isEqualTo(HealthMonitor.Status.DEGRADED);
+        assertThat(snapshot.database()).containsEntry("status", "UNKNOWN");
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void reportsDownWhenConnectionFails() throws SQLException {
+        poolState(0, 5, 0);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Communications link failure"));
+
+        monitor.check();
+
+        HealthMonitor.HealthSnapshot snapshot = monitor.getSnapshot();
+        assertThat(snapshot.status()).isEqualTo(HealthMonitor.Status.DOWN);
+        assertThat(snapshot.database()).containsEntry("error", "Communications link failure");
+    }
+
+    @Test
+    void staleUpSnapshotIsReportedAsDegraded() {
+        HealthMonitor slow = new HealthMonitor(dataSource, 1, 0.8);
+        poolState(0, 5, 0);
+        slow.check();
+
+        // 점검 주기(1ms)의 3배 이상 지나면 스케줄러 정체로 봄
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (slow.getSnapshot().status() == HealthMonitor.Status.UP && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(slow.getSnapshot().status()).isEqualTo(HealthMonitor.Status.DEGRADED);
+    }
+
+    private void poolState(int active, int idle, int pending) {
+        when(pool.getActiveConnections()).thenReturn(active);
+        when(pool.getIdleConnections()).thenReturn(idle);
+        when(pool.getTotalConnections()).thenReturn(active + idle);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(pending);
+    }
+}
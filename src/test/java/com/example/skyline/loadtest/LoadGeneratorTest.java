@@ -0,0 +1,109 @@
+package com.example.skyline.loadtest;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.service.FlightService;
+import com.example.skyline.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoadGeneratorTest {
+
+    private final FlightService flightService = mock(FlightService.class);
+    private final ReservationService reservationService = mock(ReservationService.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LoadGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        Airport icn = new Airport("ICN", "Incheon", "Seoul", "KR");
+        Airport nrt = new Airport("NRT", "Narita", "Tokyo", "JP");
+        LocalDateTime departure = LocalDateTime.now().plusDays(1);
+        Flight flight = new Flight("SK100", icn, nrt, departure, departure.plusHours(2), "A321",
+                180, 180, new BigDecimal("200000"));
+        flight.setFlightId(1L);
+        when(flightService.getAllFlights()).thenReturn(List.of(flight));
+        generator = new LoadGenerator(flightService, reservationService, new MockEnvironment());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        generator.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void latencyIsMeasuredFromIntendedStartAndOverflowIsDropped() throws Exception {
+        // 첫 요청이 막혀 있는 동안 예정된 요청은 대기열(1초 분량 = 100건)에 쌓이고, 넘치면 버려짐
+        when(flightService.searchFlights(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        LoadProfile profile = new LoadProfile(100, 1, 2, 100, 0, 0);
+        profile.setCleanup(false);
+
+        LoadRun run = generator.start(profile);
+        Thread.sleep(2_500);
+        release.countDown();
+        awaitFinished(run);
+
+        Map<String, Object> report = run.report();
+        Map<String, Object> all = (Map<String, Object>) report.get("all");
+        long executed = (long) all.get("count");
+        long dropped = (long) report.get("dropped");
+        assertThat(executed + dropped).isEqualTo(200);
+        assertThat(executed).isBetween(100L, 102L);
+        // 실제 실행 시각이 아닌 예정 시각 기준이므로 대기열에서 기다린 시간이 지연시간에 포함됨
+        // (보정하지 않으면 막힌 요청 한 건을 빼고는 모두 0ms 에 가까움)
+        assertThat((double) all.get("p50_ms")).isGreaterThan(1_000.0);
+        assertThat((double) all.get("max_ms")).isGreaterThan(2_000.0);
+        assertThat(report.get("status")).isEqualTo("FINISHED");
+    }
+
+    @Test
+    void stopEndsRunEarlyAndAllowsNextRun() throws Exception {
+        when(flightService.searchFlights(anyString(), anyString(), any())).thenReturn(List.of());
+        LoadProfile profile = new LoadProfile(50, 2, 60, 100, 0, 0);
+        profile.setCleanup(false);
+
+        LoadRun run = generator.start(profile);
+        assertThatThrownBy(() -> generator.start(profile)).isInstanceOf(IllegalStateException.class);
+
+        Thread.sleep(300);
+        generator.stop();
+        awaitFinished(run);
+
+        Map<String, Object> report = run.report();
+        assertThat(report.get("status")).isEqualTo("STOPPED");
+        assertThat((long) report.get("elapsed_ms")).isLessThan(10_000L);
+        assertThat(generator.getCurrentRun()).containsSame(run);
+
+        LoadRun next = generator.start(profile);
+        assertThat(next).isNotSameAs(run);
+    }
+
+    private static void awaitFinished(LoadRun run) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (run.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(run.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.skyline.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadRunTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reportsPercentilesAndOutcomeCountsPerOperation() {
+        LoadRun run = new LoadRun(new LoadProfile(100, 4, 10, 100, 0, 0), List.of());
+        run.markStarted(1);
+        for (int i = 1; i <= 100; i++) {
+            run.record(LoadOperation.SEARCH, i * MILLI, LoadRun.Outcome.OK);
+        }
+        run.record(LoadOperation.BOOK, 5 * MILLI, LoadRun.Outcome.REJECTED);
+        run.record(LoadOperation.BOOK, 7 * MILLI, LoadRun.Outcome.TIMEOUT);
+        run.recordDropped(LoadOperation.SEARCH);
+        run.markFinished(1 + TimeUnit.SECONDS.toNanos(2));
+
+        Map<String, Object> report = run.report();
+        assertThat(report.get("status")).isEqualTo("FINISHED");
+        assertThat(report.get("elapsed_ms")).isEqualTo(2000L);
+        assertThat((double) report.get("throughput_per_second")).isEqualTo(51.0);
+        assertThat(report.get("dropped")).isEqualTo(1L);
+
+        Map<String, Object> all = (Map<String, Object>) report.get("all");
+        assertThat(all.get("count")).isEqualTo(102L);
+
+        Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) report.get("operations");
+        Map<String, Object> search = operations.get("SEARCH");
+        assertThat(search.get("count")).isEqualTo(100L);
+        // 유효숫자 3자리 히스토그램이므로 오차 0.1% 이내
+        assertThat((double) search.get("p50_ms")).isBetween(49.9, 50.1);
+        assertThat((double) search.get("p99_ms")).isBetween(98.9, 99.1);
+        assertThat((double) search.get("max_ms")).isBetween(99.9, 100.1);
+        assertThat(search.get("dropped")).isEqualTo(1L);
+        // 발사하지 못한 요청은 지연시간 표본에 포함되지 않음
+        assertThat(operations.get("CANCEL").get("count")).isEqualTo(0L);
+        assertThat(operations.get("BOOK").get("rejected")).isEqualTo(1L);
+        assertThat(operations.get("BOOK").get("timeouts")).isEqualTo(1L);
+    }
+
+    @Test
+    void stopRequestEndsInStoppedState() {
+        LoadRun run = new LoadRun(new LoadProfile(), List.of());
+        run.markStarted(1);
+        assertThat(run.isRunning()).isTrue();
+        assertThat(run.report().get("status")).isEqualTo("RUNNING");
+
+        run.requestStop();
+        assertThat(run.isStopRequested()).isTrue();
+        assertThat(run.isRunning()).isTrue(); // 드라이버가 종료를 마칠 때까지는 실행 중
+
+        run.markFinished(1 + TimeUnit.SECONDS.toNanos(1));
+        assertThat(run.isRunning()).isFalse();
+        assertThat(run.report().get("status")).isEqualTo("STOPPED");
+        assertThat(run.report().get("elapsed_ms")).isEqualTo(1000L);
+    }
+
+    @Test
+    void reportBeforeStartHasNoThroughput() {
+        LoadRun run = new LoadRun(new LoadProfile(), List.of());
+
+        assertThat(run.report().get("elapsed_ms")).isEqualTo(0L);
+        assertThat(run.report().get("throughput_per_second")).isEqualTo(0.0);
+    }
+}
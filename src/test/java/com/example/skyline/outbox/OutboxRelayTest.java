@@ -0,0 +1,123 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.inventory.ClusterMembership;
+import com.example.skyline.repository.OutboxEventRepository;
+import com.example.skyline.repository.OutboxRelayStateRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 릴레이는 커밋된 이벤트에 빈틈없는 순번을 부여하고 싱크에는 순번 오름차순으로만 전달
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private OutboxRelayStateRepository relayStateRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> delivered = new ArrayList<>();
+    private int failuresLeft;
+
+    private final OutboxSink recordingSink = events -> {
+        if (failuresLeft > 0) {
+            failuresLeft--;
+            throw new IOException("sink unavailable");
+        }
+        events.forEach(event -> delivered.add(event.getSequenceNo()));
+    };
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        relayStateRepository.deleteAll();
+    }
+
+    @Test
+    void deliversContiguousSequencesInAscendingOrderAcrossBatches() {
+        OutboxRelay relay = relay(recordingSink, singleNode());
+        save(5);
+        relay.relay();
+        save(2);
+        relay.relay();
+
+        // 커서는 기존 eventId 최댓값에서 시작하므로 첫 순번 기준으로 연속성 확인
+        long first = delivered.get(0);
+        assertThat(delivered).containsExactly(first, first + 1, first + 2, first + 3, first + 4, first + 5, first + 6);
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+        // 변경 피드도 같은 순번으로 이어서 조회
+        assertThat(outboxEventRepository.findBySequenceNoGreaterThanOrderBySequenceNoAsc(first + 4,
+                PageRequest.of(0, 10)))
+                .extracting(OutboxEvent::getSequenceNo).containsExactly(first + 5, first + 6);
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithSameSequences() {
+        OutboxRelay relay = relay(recordingSink, singleNode());
+        save(3);
+        failuresLeft = 1;
+
+        relay.relay();
+        assertThat(delivered).isEmpty();
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> assertThat(event.getPublishedAt()).isNull());
+
+        relay.relay();
+        long first = delivered.get(0);
+        assertThat(delivered).containsExactly(first, first + 1, first + 2);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getSequenceNo).containsExactlyInAnyOrder(first, first + 1, first + 2);
+    }
+
+    @Test
+    void segmentSinkWithSeveralMembersFailsFast(@TempDir Path directory) {
+        SegmentFileOutboxSink segmentSink = new SegmentFileOutboxSink(new ObjectMapper(), directory.toString(), 1024);
+        ClusterMembership twoNodes = new ClusterMembership(true, "http://a:8080", "http://a:8080,http://b:8080", "", 16);
+
+        assertThatThrownBy(() -> relay(segmentSink, twoNodes))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("단일 레플리카");
+        // 단일 노드이거나 명시적으로 허용하면 기동
+        relay(segmentSink, singleNode());
+        new OutboxRelay(outboxEventRepository, relayStateRepository, segmentSink, transactionManager, twoNodes,
+                true, true, 2, 168);
+    }
+
+    private OutboxRelay relay(OutboxSink sink, ClusterMembership membership) {
+        return new OutboxRelay(outboxEventRepository, relayStateRepository, sink, transactionManager, membership,
+                true, false, 2, 168);
+    }
+
+    private static ClusterMembership singleNode() {
+        return new ClusterMembership(false, "http://localhost:8080", "", "", 16);
+    }
+
+    private void save(int count) {
+        for (int i = 0; i < count; i++) {
+            outboxEventRepository.save(new OutboxEvent(OutboxEvent.EventType.RESERVATION_CREATED, (long) i, 1L, "{}"));
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 아웃박스 기록은 비즈니스 트랜잭션 안에서만 허용 (MANDATORY): 트랜잭션 밖 기록은 거부, 롤백되면 이벤트도 사라짐
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@Import({OutboxService.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxServiceTest {
+
+    @Autowired
+    private OutboxService outboxService;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void recordOutsideTransactionIsRejected() {
+        assertThatThrownBy(() -> outboxService.record(OutboxEvent.EventType.RESERVATIONS_CANCELLED, null, null,
+                Map.of("cancelled", 1)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void recordJoinsCallerTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> outboxService.record(
+                OutboxEvent.EventType.RESERVATIONS_CANCELLED, null, null, Map.of("cancelled", 1)));
+        transaction.executeWithoutResult(status -> {
+            outboxService.record(OutboxEvent.EventType.RESERVATIONS_CANCELLED, null, null, Map.of("cancelled", 2));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.findAll())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getPayload()).isEqualTo("{\"cancelled\":1}");
+                    assertThat(event.getSequenceNo()).isNull();
+                });
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.skyline.outbox;
+
+import com.example.skyline.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentFileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void redeliveredOffsetsAreWrittenOnce() throws IOException {
+        SegmentFileOutboxSink sink = sink(1 << 20);
+        sink.publish(List.of(event(1), event(2)));
+        sink.publish(List.of(event(2), event(3)));
+        sink.close();
+
+        assertThat(offsets()).containsExactly(1L, 2L, 3L);
+        assertThat(sink.getLastOffset()).isEqualTo(3);
+    }
+
+    @Test
+    void rollsSegmentNamedAfterFirstOffset() throws IOException {
+        SegmentFileOutboxSink sink = sink(1);
+        sink.publish(List.of(event(1), event(2)));
+        sink.close();
+
+        assertThat(segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("00000000000000000001.log", "00000000000000000002.log");
+    }
+
+    @Test
+    void restartTruncatesPartialLineAndResumesAfterLastCompleteOffset() throws IOException {
+        SegmentFileOutboxSink first = sink(1 << 20);
+        first.publish(List.of(event(1), event(2)));
+        first.close();
+        Path segment = segments().get(0);
+        Files.writeString(segment, "{\"offset\":3,\"eventId\"", StandardOpenOption.APPEND);
+
+        SegmentFileOutboxSink restarted = sink(1 << 20);
+        restarted.publish(List.of(event(2), event(3)));
+        restarted.close();
+
+        assertThat(offsets()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void recoversLastLineLongerThanOneReadBlock() throws IOException {
+        // 마지막 줄과 잘린 꼬리가 각각 64KB 를 넘어도 뒤에서부터 계속 읽어 완전한 줄을 찾음
+        SegmentFileOutboxSink first = sink(1 << 20);
+        first.publish(List.of(event(1), event(2, "x".repeat(200_000))));
+        first.close();
+        Path segment = segments().get(0);
+        Files.writeString(segment, "{\"offset\":3,\"payload\":\"" + "y".repeat(150_000), StandardOpenOption.APPEND);
+
+        SegmentFileOutboxSink restarted = sink(1 << 20);
+        restarted.publish(List.of(event(1), event(2)));
+        assertThat(restarted.getLastOffset()).isEqualTo(2);
+        restarted.publish(List.of(event(3)));
+        restarted.close();
+
+        assertThat(offsets()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void emptyLatestSegmentResumesBeforeItsBaseOffset() throws IOException {
+        SegmentFileOutboxSink first = sink(1);
+        first.publish(List.of(event(1), event(2)));
+        first.close();
+        // 두 번째 세그먼트의 첫 줄이 기록되다 중단된 상태
+        Files.writeString(segments().get(1), "{\"offset\":2", StandardOpenOption.TRUNCATE_EXISTING);
+
+        SegmentFileOutboxSink restarted = sink(1 << 20);
+        restarted.publish(List.of(event(1), event(2)));
+        restarted.close();
+
+        assertThat(offsets()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void countsOffsetsPublishedByAnotherRelay() throws IOException {
+        SegmentFileOutboxSink sink = sink(1 << 20);
+        sink.publish(List.of(event(1), event(2)));
+        sink.publish(List.of(event(5), event(6)));
+        sink.close();
+
+        assertThat(sink.getMissingOffsets()).isEqualTo(2);
+        assertThat(offsets()).containsExactly(1L, 2L, 5L, 6L);
+    }
+
+    private SegmentFileOutboxSink sink(long segmentBytes) {
+        return new SegmentFileOutboxSink(objectMapper, directory.toString(), segmentBytes);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private List<Long> offsets() throws IOException {
+        return segments().stream()
+                .flatMap(segment -> {
+                    try {
+                        return Files.readAllLines(segment, StandardCharsets.UTF_8).stream();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line).get("offset").asLong();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private static OutboxEvent event(long sequenceNo) {
+        return event(sequenceNo, "");
+    }
+
+    private static OutboxEvent event(long sequenceNo, String note) {
+        OutboxEvent event = new OutboxEvent(OutboxEvent.EventType.RESERVATION_CREATED, sequenceNo, 1L,
+                "{\"reservationId\":" + sequenceNo + ",\"note\":\"" + note + "\"}");
+        event.setEventId(sequenceNo + 100);
+        event.setSequenceNo(sequenceNo);
+        return event;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.skyline.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FareTableTest {
+
+    private static final long SCALE = 10_000;
+    // 남은 일수 구간 2개 x 탑승률 구간 4개
+    private static final long[] DAYS = {15_000, 10_000};
+    private static final long[] LOAD_FACTOR = {8_000, 10_000, 12_500, 20_000};
+
+    private static FareTable table(long baseCents, int totalSeats, long roundingCents) {
+        return FareTable.build(baseCents, totalSeats, 1_000_000L, DAYS, LOAD_FACTOR, SCALE, roundingCents);
+    }
+
+    @Test
+    void multipliesBaseFareByLoadFactorAndDaysMultipliers() {
+        FareTable table = table(100_000, 100, 1);
+
+        // 1000.00 x 0.8 x 1.5 = 1200.00, 1000.00 x 2.0 x 1.0 = 2000.00
+        assertThat(table.fare(0, 100)).isEqualTo(120_000);
+        assertThat(table.fare(0, 60)).isEqualTo(150_000);
+        assertThat(table.fare(1, 40)).isEqualTo(125_000);
+        assertThat(table.fare(1, 0)).isEqualTo(200_000);
+    }
+
+    @Test
+    void loadFactorBucketBoundaries() {
+        FareTable table = table(100_000, 100, 1);
+
+        // 판매 0~24석 -> 0구간, 25~49 -> 1구간, 50~74 -> 2구간, 75~100 -> 3구간
+        assertThat(table.fare(1, 76)).isEqualTo(80_000);
+        assertThat(table.fare(1, 75)).isEqualTo(100_000);
+        assertThat(table.fare(1, 51)).isEqualTo(100_000);
+        assertThat(table.fare(1, 50)).isEqualTo(125_000);
+        assertThat(table.fare(1, 26)).isEqualTo(125_000);
+        assertThat(table.fare(1, 25)).isEqualTo(200_000);
+    }
+
+    @Test
+    void soldSeatsAreClampedToCapacity() {
+        FareTable table = table(100_000, 100, 1);
+
+        // 잔여 좌석이 총 좌석보다 많거나(반환 경합) 음수여도 첫/마지막 구간으로 제한
+        assertThat(table.fare(1, 150)).isEqualTo(80_000);
+        assertThat(table.fare(1, -5)).isEqualTo(200_000);
+    }
+
+    @Test
+    void roundsToNearestUnitAndNeverBelowOneUnit() {
+        // 1234.56 x 0.8 x 1.0 = 987.648 -> 987.64(정수 나눗셈) -> 100원 단위 반올림 1000.00
+        assertThat(table(123_456, 100, 10_000).fare(1, 100)).isEqualTo(100_000);
+        // 1234.56 x 1.25 = 1543.20 -> 1500.00, x 2.0 = 2469.12 -> 2500.00
+        assertThat(table(123_456, 100, 10_000).fare(1, 50)).isEqualTo(150_000);
+        assertThat(table(123_456, 100, 10_000).fare(1, 0)).isEqualTo(250_000);
+
+        // 아주 낮은 기준 운임도 최소 한 단위
+        assertThat(table(10, 100, 10_000).fare(1, 100)).isEqualTo(10_000);
+        assertThat(table(0, 100, 10_000).fare(0, 0)).isEqualTo(10_000);
+    }
+
+    @Test
+    void singleSeatFlightUsesFirstAndLastBuckets() {
+        FareTable table = table(100_000, 1, 1);
+
+        assertThat(table.fare(1, 1)).isEqualTo(80_000);
+        assertThat(table.fare(1, 0)).isEqualTo(200_000);
+    }
+
+    @Test
+    void matchesOnlySameBaseSeatsAndDeparture() {
+        FareTable table = table(100_000, 100, 1);
+
+        assertThat(table.matches(100_000, 100, 1_000_000L)).isTrue();
+        assertThat(table.matches(100_100, 100, 1_000_000L)).isFalse();
+        assertThat(table.matches(100_000, 180, 1_000_000L)).isFalse();
+        assertThat(table.matches(100_000, 100, 1_000_060L)).isFalse();
+    }
+
+    @Test
+    void expiresAfterDepartureOrIdle() {
+        FareTable table = table(100_000, 100, 1);
+        table.touch(10_000);
+
+        assertThat(table.isExpired(999_999L, 20_000, 60_000)).isFalse();
+        assertThat(table.isExpired(1_000_001L, 20_000, 60_000)).isTrue();
+        assertThat(table.isExpired(999_999L, 80_001, 60_000)).isTrue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.skyline.pricing;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 조회 응답 목록에 동적 운임을 적용하는 비용 (application.yml 기본 배수/구간)
+// warm: 운임표가 이미 있는 상태(칸 선택만), cold: 호출마다 새 엔진이라 항공편별 운임표 생성 포함
+// 30건은 노선/날짜 검색 한 번, 1000건은 전체/출발 공항 조회 정도의 크기
+// 실행: scripts/run-benchmarks.sh PricingEngineBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    @Param({"30", "1000"})
+    public int flights;
+
+    @Param({"warm", "cold"})
+    public String tables;
+
+    private List<Flight> results;
+    private PricingEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        results = searchResults(flights);
+        engine = newEngine();
+        engine.price(results);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTables() {
+        if ("cold".equals(tables)) {
+            engine = newEngine();
+        }
+    }
+
+    @Benchmark
+    public List<Flight> price() {
+        return engine.price(results);
+    }
+
+    static PricingEngine newEngine() {
+        return new PricingEngine(new SimpleMeterRegistry(), true,
+                new double[]{0.85, 0.9, 0.95, 1.0, 1.0, 1.05, 1.15, 1.3, 1.5, 1.8},
+                new int[]{3, 7, 14, 30, 60},
+                new double[]{1.4, 1.25, 1.1, 1.0, 0.95, 0.9},
+                BigDecimal.valueOf(100), 60);
+    }
+
+    // 출발 0~90일 전, 탑승률이 고르게 섞인 조회 결과 (가격은 DB 와 같은 scale 2)
+    static List<Flight> searchResults(int count) {
+        Airport from = new Airport("ICN", "Incheon", "Seoul", "KR");
+        Airport to = new Airport("NRT", "Narita", "Tokyo", "JP");
+        LocalDateTime now = LocalDateTime.now();
+        List<Flight> list = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            LocalDateTime departure = now.plusDays(n % 90).plusMinutes(n * 13L % 1440);
+            Flight flight = new Flight(String.format("SK%04d", n), from, to, departure, departure.plusMinutes(140),
+                    "Boeing 737", 189, (n * 7) % 190, BigDecimal.valueOf(18_000_000L + (n % 40) * 500_000L, 2));
+            flight.setFlightId((long) n);
+            list.add(flight);
+        }
+        return list;
+    }
+}
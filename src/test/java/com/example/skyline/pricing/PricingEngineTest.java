@@ -0,0 +1,100 @@
+package com.example.skyline.pricing;
+
+import com.example.skyline.entity.Flight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PricingEngineTest {
+
+    // 탑승률 배수 1.0 하나, 남은 일수 경계 3/7/14/30/60, 0.01 단위 (배수가 그대로 운임에 드러나도록)
+    private final PricingEngine engine = new PricingEngine(new SimpleMeterRegistry(), true,
+            new double[]{1.0}, new int[]{3, 7, 14, 30, 60},
+            new double[]{1.4, 1.25, 1.1, 1.0, 0.95, 0.9}, new BigDecimal("0.01"), 60);
+
+    private static Flight flight(long id, LocalDateTime departure) {
+        Flight flight = new Flight("SK" + id, null, null, departure, departure.plusHours(2), "Airbus A320",
+                180, 90, new BigDecimal("1000.00"));
+        flight.setFlightId(id);
+        return flight;
+    }
+
+    // 출발까지 남은 일수(내림)가 days 인 항공편의 운임. 1시간 여유를 두어 테스트 중 날짜가 바뀌지 않게 함
+    private BigDecimal fareDaysAhead(long days) {
+        Flight flight = flight(days + 1000, LocalDateTime.now().plusDays(days).plusHours(1));
+        return engine.price(flight).getCurrentPrice();
+    }
+
+    @Test
+    void daysToDepartureBucketBoundaries() {
+        assertThat(fareDaysAhead(0)).isEqualByComparingTo("1400.00");
+        assertThat(fareDaysAhead(2)).isEqualByComparingTo("1400.00");
+        assertThat(fareDaysAhead(3)).isEqualByComparingTo("1250.00");
+        assertThat(fareDaysAhead(6)).isEqualByComparingTo("1250.00");
+        assertThat(fareDaysAhead(7)).isEqualByComparingTo("1100.00");
+        assertThat(fareDaysAhead(14)).isEqualByComparingTo("1000.00");
+        assertThat(fareDaysAhead(29)).isEqualByComparingTo("1000.00");
+        assertThat(fareDaysAhead(30)).isEqualByComparingTo("950.00");
+        assertThat(fareDaysAhead(59)).isEqualByComparingTo("950.00");
+        // 마지막 경계 이상은 조회 표 밖이므로 마지막 구간
+        assertThat(fareDaysAhead(60)).isEqualByComparingTo("900.00");
+        assertThat(fareDaysAhead(365)).isEqualByComparingTo("900.00");
+    }
+
+    @Test
+    void departedFlightUsesNearestBucket() {
+        Flight flight = flight(1, LocalDateTime.now().minusHours(3));
+
+        assertThat(engine.price(flight).getCurrentPrice()).isEqualByComparingTo("1400.00");
+    }
+
+    @Test
+    void rebuildsTableWhenBaseFareChanges() {
+        Flight flight = flight(7, LocalDateTime.now().plusDays(20).plusHours(1));
+        assertThat(engine.price(flight).getCurrentPrice()).isEqualByComparingTo("1000.00");
+
+        flight.setPrice(new BigDecimal("1200.00"));
+        assertThat(engine.price(flight).getCurrentPrice()).isEqualByComparingTo("1200.00");
+    }
+
+    @Test
+    void skipsFlightsWithoutPricingInputs() {
+        Flight flight = flight(8, LocalDateTime.now().plusDays(5));
+        flight.setTotalSeats(0);
+
+        assertThat(engine.price(flight).getCurrentPrice()).isNull();
+    }
+
+    @Test
+    void pricesCopiesAndLeavesSharedEntitiesUntouched() {
+        Flight shared = flight(9, LocalDateTime.now().plusDays(20).plusHours(1));
+        List<Flight> flights = List.of(shared);
+
+        List<Flight> first = engine.price(flights);
+        // 다른 요청의 응답(복사본)을 바꿔도 엔티티와 다른 응답에는 영향 없음
+        first.get(0).setCurrentPrice(BigDecimal.ONE);
+        List<Flight> second = engine.price(flights);
+
+        assertThat(shared.getCurrentPrice()).isNull();
+        assertThat(first.get(0)).isNotSameAs(shared);
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+        assertThat(second.get(0).getCurrentPrice()).isEqualByComparingTo("1000.00");
+        assertThat(second.get(0).getFlightId()).isEqualTo(9L);
+    }
+
+    @Test
+    void rejectsMismatchedDaysConfiguration() {
+        assertThatThrownBy(() -> new PricingEngine(new SimpleMeterRegistry(), true, new double[]{1.0},
+                new int[]{3, 7}, new double[]{1.0, 1.0}, BigDecimal.ONE, 60))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PricingEngine(new SimpleMeterRegistry(), true, new double[]{1.0},
+                new int[]{7, 3}, new double[]{1.0, 1.0, 1.0}, BigDecimal.ONE, 60))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.skyline.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 짧은 프로세스 내 JFR 기록으로 세이프포인트 짝짓기와 애플리케이션 프레임 필터 확인
+class RecordingSummarizerTest {
+
+    private static final String PACKAGE = "com.example.skyline.profiling";
+
+    // 스프링 CGLIB 프록시처럼 이름에 $$ 가 들어간 클래스 (요약에서 건너뛰고 호출한 쪽 프레임으로 집계)
+    static final class Spinner$$SpringCGLIB$$0 {
+        static long spin(long untilNanos) {
+            long value = 0;
+            while (System.nanoTime() < untilNanos) {
+                value += Long.numberOfTrailingZeros(value + System.nanoTime());
+            }
+            return value;
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void safepointBeginAndEndArePairedBySafepointId() throws IOException {
+        Path file = record(() -> {
+            for (int i = 0; i < 5; i++) {
+                System.gc(); // 전역 세이프포인트 발생
+            }
+        }, "jdk.SafepointBegin", "jdk.SafepointEnd");
+
+        // 파일 안의 순서와 무관하게 같은 safepointId 의 시작/종료로 기대값 계산
+        Map<Long, RecordedEvent> begins = new HashMap<>();
+        Map<Long, Instant> ends = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            switch (event.getEventType().getName()) {
+                case "jdk.SafepointBegin" -> begins.put(event.getLong("safepointId"), event);
+                case "jdk.SafepointEnd" -> ends.put(event.getLong("safepointId"), event.getEndTime());
+                default -> {
+                }
+            }
+        }
+        long paired = begins.keySet().stream().filter(ends::containsKey).count();
+        double maxMs = begins.entrySet().stream()
+                .filter(entry -> ends.containsKey(entry.getKey()))
+                .mapToLong(entry -> Duration.between(entry.getValue().getStartTime(), ends.get(entry.getKey())).toNanos())
+                .max().orElse(0) / 1_000_000.0;
+
+        Map<String, Object> safepoints = section(new RecordingSummarizer(PACKAGE, 5).summarize(file), "safepoints");
+
+        assertThat(paired).isGreaterThanOrEqualTo(5);
+        assertThat(safepoints.get("count")).isEqualTo(paired);
+        assertThat(safepoints.get("max_ms")).isEqualTo(maxMs);
+        // 전체 정지 시간은 세이프포인트 도달 시간을 포함
+        Map<String, Object> timeToSafepoint = section(safepoints, "time_to_safepoint");
+        assertThat(timeToSafepoint.get("count")).isEqualTo(paired);
+        assertThat((double) safepoints.get("total_ms")).isGreaterThanOrEqualTo((double) timeToSafepoint.get("total_ms"));
+    }
+
+    @Test
+    void cpuSamplesAreAttributedToTheNearestNonProxyAppFrame() throws IOException {
+        Path file = record(this::spinThroughProxy, "jdk.ExecutionSample");
+
+        Map<String, Object> cpu = section(new RecordingSummarizer(PACKAGE, 10).summarize(file), "cpu");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> frames = (List<Map<String, Object>>) cpu.get("top_frames");
+
+        assertThat((long) cpu.get("samples")).isGreaterThan(0);
+        assertThat((long) cpu.get("app_samples")).isGreaterThan(0).isLessThanOrEqualTo((long) cpu.get("samples"));
+        assertThat(frames).isNotEmpty().allSatisfy(row -> assertThat((String) row.get("frame"))
+                .startsWith(PACKAGE)
+                .doesNotContain("$$"));
+        assertThat(frames).anySatisfy(row -> assertThat((String) row.get("frame"))
+                .startsWith(RecordingSummarizerTest.class.getName() + ".spinThroughProxy:"));
+    }
+
+    @Test
+    void packageFilterExcludesFramesOutsideThePrefix() throws IOException {
+        Path file = record(this::spinThroughProxy, "jdk.ExecutionSample");
+
+        Map<String, Object> cpu = section(new RecordingSummarizer("org.example.other", 10).summarize(file), "cpu");
+
+        assertThat((long) cpu.get("samples")).isGreaterThan(0);
+        assertThat(cpu.get("app_samples")).isEqualTo(0L);
+        assertThat((List<?>) cpu.get("top_frames")).isEmpty();
+    }
+
+    private long spinThroughProxy() {
+        return Spinner$$SpringCGLIB$$0.spin(System.nanoTime() + Duration.ofMillis(1500).toNanos());
+    }
+
+    private Path record(Runnable workload, String... events) throws IOException {
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : events) {
+                recording.enable(event).withPeriod(Duration.ofMillis(10));
+            }
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> summary, String key) {
+        return (Map<String, Object>) summary.get(key);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.skyline.repository;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좌석 수 조건부 UPDATE: 조회 후 저장 없이 DB 에서 한도(0 ~ 총 좌석수)를 지킴
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+class FlightRepositoryTest {
+
+    @Autowired
+    private FlightRepository flightRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long flightId;
+
+    @BeforeEach
+    void setUp() {
+        Airport icn = new Airport("ICN", "Incheon", "Seoul", "KR");
+        Airport nrt = new Airport("NRT", "Narita", "Tokyo", "JP");
+        entityManager.persist(icn);
+        entityManager.persist(nrt);
+        LocalDateTime departure = LocalDateTime.of(2026, 3, 1, 9, 0);
+        Flight flight = new Flight("SK101", icn, nrt, departure, departure.plusHours(2), "Airbus A320",
+                10, 8, new BigDecimal("250000.00"));
+        flightId = flightRepository.saveAndFlush(flight).getFlightId();
+    }
+
+    @Test
+    void bulkSeatRestorationIsCappedAtTotalSeats() {
+        assertThat(flightRepository.increaseAvailableSeatsBy(flightId, 5)).isEqualTo(1);
+
+        assertThat(flightRepository.findAvailableSeats(flightId)).isEqualTo(10);
+    }
+
+    @Test
+    void singleSeatRestorationStopsAtTotalSeats() {
+        assertThat(flightRepository.incrementAvailableSeat(flightId)).isEqualTo(1);
+        assertThat(flightRepository.incrementAvailableSeat(flightId)).isEqualTo(1);
+        // 이미 총 좌석수이면 갱신하지 않음
+        assertThat(flightRepository.incrementAvailableSeat(flightId)).isZero();
+
+        assertThat(flightRepository.findAvailableSeats(flightId)).isEqualTo(10);
+    }
+
+    @Test
+    void seatDecrementStopsAtZero() {
+        for (int i = 0; i < 8; i++) {
+            assertThat(flightRepository.decrementAvailableSeat(flightId)).isEqualTo(1);
+        }
+        assertThat(flightRepository.decrementAvailableSeat(flightId)).isZero();
+
+        assertThat(flightRepository.findAvailableSeats(flightId)).isZero();
+    }
+}
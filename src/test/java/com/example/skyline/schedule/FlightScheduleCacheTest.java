@@ -0,0 +1,116 @@
+package com.example.skyline.schedule;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import com.example.skyline.repository.AirportRepository;
+import com.example.skyline.repository.FlightRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.skyline.schedule.ScheduleSnapshotFormatTest.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 스냅샷 + 델타 병합: 워터마크는 overlap(30초)만큼 겹쳐 다시 읽고, 델타가 스냅샷 행을 대체/이동
+class FlightScheduleCacheTest {
+
+    private static final long OVERLAP_SECONDS = 30;
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 2);
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 19, 12, 0, 0);
+
+    private final FlightRepository flightRepository = mock(FlightRepository.class);
+    private final AirportRepository airportRepository = mock(AirportRepository.class);
+    private FlightScheduleCache cache;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(airportRepository.findAllCodesOrdered()).thenReturn(List.of("ICN", "NRT"));
+        when(airportRepository.findAll()).thenReturn(List.of(
+                new Airport("ICN", "인천국제공항", "서울", "대한민국"),
+                new Airport("NRT", "나리타국제공항", "도쿄", "일본")));
+        when(flightRepository.streamScheduleRows()).thenReturn(Stream.of(
+                row(1, "KE701", "ICN", "NRT", DAY.atTime(9, 0), "A330", "300000", T0),
+                row(2, "KE703", "ICN", "NRT", DAY.atTime(13, 0), "A330", "300000", T0.minusHours(1))));
+        when(flightRepository.findMaxUpdatedAt()).thenReturn(T0);
+        ScheduleSnapshotWriter writer = new ScheduleSnapshotWriter(flightRepository, airportRepository,
+                transactionManager);
+        cache = new FlightScheduleCache(flightRepository, airportRepository, writer, new SimpleMeterRegistry(),
+                true, directory.resolve("flights.snap").toString(), OVERLAP_SECONDS, 5000);
+    }
+
+    @Test
+    void deltaPollsRereadTheOverlapWindowAfterTheLatestChange() {
+        ScheduleRow lateCommit = row(1, "KE701", "ICN", "NRT", DAY.atTime(9, 0), "A330", "310000", T0.minusSeconds(10));
+        ScheduleRow changed = row(2, "KE703", "ICN", "NRT", DAY.atTime(13, 0), "A330", "280000", T0.plusSeconds(60));
+        when(flightRepository.findScheduleRowsUpdatedSince(any()))
+                .thenReturn(List.of(lateCommit), List.of(changed), List.of());
+
+        cache.load();
+        cache.refreshDeltas();
+        cache.refreshDeltas();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(flightRepository, atLeastOnce()).findScheduleRowsUpdatedSince(since.capture());
+        // 스냅샷 워터마크(최신 변경 - 30초)부터, 이후엔 마지막으로 본 변경 - 30초부터 다시 읽음
+        assertThat(since.getAllValues()).containsExactly(
+                T0.minusSeconds(OVERLAP_SECONDS),
+                T0.minusSeconds(OVERLAP_SECONDS),
+                T0.plusSeconds(60 - OVERLAP_SECONDS));
+        // 스냅샷 워터마크보다 늦게 보인 변경(overlap 안)도 반영
+        assertThat(cache.search("ICN", "NRT", DAY)).hasValueSatisfying(flights -> assertThat(flights)
+                .extracting(flight -> flight.getPrice().intValueExact())
+                .containsExactly(310000, 280000));
+    }
+
+    @Test
+    void deltaMovedToAnotherDayLeavesTheOldSearchCell() {
+        ScheduleRow moved = row(2, "KE703", "ICN", "NRT", DAY.plusDays(1).atTime(8, 0), "A330", "300000",
+                T0.plusSeconds(5));
+        ScheduleRow movedBack = row(2, "KE703", "ICN", "NRT", DAY.atTime(7, 0), "A330", "300000",
+                T0.plusSeconds(20));
+        when(flightRepository.findScheduleRowsUpdatedSince(any()))
+                .thenReturn(List.of(), List.of(moved), List.of(moved, movedBack));
+
+        cache.load();
+        cache.refreshDeltas();
+        assertThat(flightIds(DAY)).containsExactly(1L);
+        assertThat(flightIds(DAY.plusDays(1))).containsExactly(2L);
+
+        // overlap 으로 이전 변경이 함께 다시 읽혀도 최신 행이 남음
+        cache.refreshDeltas();
+        assertThat(flightIds(DAY)).containsExactly(2L, 1L);
+        assertThat(flightIds(DAY.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void searchNormalisesAirportCodesLikeTheDatabase() {
+        when(flightRepository.findScheduleRowsUpdatedSince(any())).thenReturn(List.of());
+        cache.load();
+
+        assertThat(cache.search("icn ", "nrt", DAY)).hasValueSatisfying(flights -> assertThat(flights).hasSize(2));
+    }
+
+    private List<Long> flightIds(LocalDate date) {
+        return cache.search("ICN", "NRT", date).orElseThrow().stream().map(Flight::getFlightId).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.skyline.schedule;
+
+import com.example.skyline.repository.AirportRepository;
+import com.example.skyline.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 작성기가 기록한 바이너리 스냅샷을 다시 열어 같은 행과 노선/출발일 검색 결과가 나오는지 확인
+class ScheduleSnapshotFormatTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 2);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 10, 19, 12, 0, 0);
+
+    private final FlightRepository flightRepository = mock(FlightRepository.class);
+    private final AirportRepository airportRepository = mock(AirportRepository.class);
+    private ScheduleSnapshotWriter writer;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        writer = new ScheduleSnapshotWriter(flightRepository, airportRepository, transactionManager);
+        when(airportRepository.findAllCodesOrdered()).thenReturn(List.of("CJU", "GMP", "ICN", "NRT"));
+    }
+
+    @Test
+    void roundTripsEveryField() throws IOException {
+        List<ScheduleRow> rows = List.of(
+                row(3, "KE1203", "GMP", "CJU", DAY.atTime(7, 30), "B737-800", "89000.50", UPDATED.minusHours(1)),
+                row(1, "KE701", "ICN", "NRT", DAY.atTime(9, 0), null, "320000", UPDATED),
+                row(2, "OZ1055", "ICN", "NRT", DAY.atTime(13, 45), "A330-300", "289000.00", UPDATED.minusDays(1)));
+        FlightScheduleSnapshot snapshot = writeAndOpen(rows, 30);
+
+        assertThat(snapshot.getRecordCount()).isEqualTo(3);
+        assertThat(snapshot.getWatermark()).isEqualTo(UPDATED.minusSeconds(30));
+        List<ScheduleRow> read = new ArrayList<>();
+        for (int i = 0; i < snapshot.getRecordCount(); i++) {
+            read.add(snapshot.row(i));
+        }
+        // 가격은 1/100 단위로 저장되므로 소수 둘째 자리로 정규화되어 돌아옴
+        assertThat(read).containsExactly(
+                row(3, "KE1203", "GMP", "CJU", DAY.atTime(7, 30), "B737-800", "89000.50", UPDATED.minusHours(1)),
+                row(1, "KE701", "ICN", "NRT", DAY.atTime(9, 0), null, "320000.00", UPDATED),
+                row(2, "OZ1055", "ICN", "NRT", DAY.atTime(13, 45), "A330-300", "289000.00", UPDATED.minusDays(1)));
+    }
+
+    @Test
+    void searchesOnlyTheRequestedRouteAndDay() throws IOException {
+        FlightScheduleSnapshot snapshot = writeAndOpen(List.of(
+                row(10, "KE1201", "GMP", "CJU", DAY.atTime(23, 59), "B737", "90000", UPDATED),
+                row(11, "KE1202", "GMP", "CJU", DAY.plusDays(1).atStartOfDay(), "B737", "90000", UPDATED),
+                row(20, "KE701", "ICN", "NRT", DAY.minusDays(1).atTime(23, 0), "A330", "300000", UPDATED),
+                row(21, "KE703", "ICN", "NRT", DAY.atStartOfDay(), "A330", "300000", UPDATED),
+                row(22, "KE705", "ICN", "NRT", DAY.atTime(18, 0), "A330", "300000", UPDATED),
+                row(23, "KE707", "ICN", "NRT", DAY.plusDays(1).atTime(6, 0), "A330", "300000", UPDATED)), 30);
+
+        assertThat(search(snapshot, "ICN", "NRT", DAY)).containsExactly(21L, 22L);
+        // 하루의 끝(다음 날 00:00)은 포함하지 않음
+        assertThat(search(snapshot, "GMP", "CJU", DAY)).containsExactly(10L);
+        assertThat(search(snapshot, "GMP", "CJU", DAY.plusDays(1))).containsExactly(11L);
+        // 역방향 노선, 데이터가 없는 날, 사전에 없는 공항
+        assertThat(search(snapshot, "NRT", "ICN", DAY)).isEmpty();
+        assertThat(search(snapshot, "ICN", "NRT", DAY.plusDays(5))).isEmpty();
+        assertThat(search(snapshot, "ICN", "KIX", DAY)).isEmpty();
+    }
+
+    @Test
+    void rejectsRowsOutOfDictionaryOrder() {
+        List<ScheduleRow> unsorted = List.of(
+                row(1, "KE701", "ICN", "NRT", DAY.atTime(9, 0), null, "320000", UPDATED),
+                row(2, "KE1201", "GMP", "CJU", DAY.atTime(9, 0), null, "90000", UPDATED));
+
+        assertThatThrownBy(() -> writeAndOpen(unsorted, 30))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("정렬");
+    }
+
+    private FlightScheduleSnapshot writeAndOpen(List<ScheduleRow> rows, long overlapSeconds) throws IOException {
+        when(flightRepository.streamScheduleRows()).thenReturn(rows.stream());
+        when(flightRepository.findMaxUpdatedAt()).thenReturn(rows.stream()
+                .map(ScheduleRow::updatedAt).max(LocalDateTime::compareTo).orElse(null));
+        Path path = directory.resolve("flights.snap");
+        assertThat(writer.write(path, overlapSeconds)).isEqualTo(rows.size());
+        return FlightScheduleSnapshot.open(path);
+    }
+
+    private static List<Long> search(FlightScheduleSnapshot snapshot, String departure, String arrival,
+                                     LocalDate date) {
+        List<Long> ids = new ArrayList<>();
+        snapshot.forEachOnRoute(departure, arrival, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                index -> ids.add(snapshot.flightId(index)));
+        return ids;
+    }
+
+    static ScheduleRow row(long id, String number, String departure, String arrival, LocalDateTime departureTime,
+                           String aircraft, String price, LocalDateTime updatedAt) {
+        return new ScheduleRow(id, number, departure, arrival, departureTime, departureTime.plusHours(2),
+                aircraft, 180, 120, new BigDecimal(price), updatedAt);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.skyline.service;
+
+import com.example.skyline.entity.Airport;
+import com.example.skyline.entity.Flight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightQueryCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FlightQueryCoalescer coalescer = new FlightQueryCoalescer(registry, true, 0);
+    private final ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecutionButGetIndependentCopies() throws Exception {
+        List<Flight> loaded = List.of(flight(1L), flight(2L));
+        List<Future<List<Flight>>> results = callConcurrently(() -> {
+            executions.incrementAndGet();
+            await(release);
+            return loaded;
+        });
+
+        assertThat(executions.get()).isEqualTo(1);
+        List<List<Flight>> lists = new ArrayList<>();
+        for (Future<List<Flight>> result : results) {
+            lists.add(result.get(5, TimeUnit.SECONDS));
+        }
+
+        // 한 호출자가 운임을 바꿔도 다른 호출자와 공유 원본에는 보이지 않음
+        lists.get(0).get(0).setCurrentPrice(new BigDecimal("1.00"));
+        for (List<Flight> flights : lists.subList(1, lists.size())) {
+            assertThat(flights).extracting(Flight::getFlightId).containsExactly(1L, 2L);
+            assertThat(flights.get(0)).isNotSameAs(lists.get(0).get(0)).isNotSameAs(loaded.get(0));
+            assertThat(flights.get(0).getCurrentPrice()).isEqualByComparingTo("300000.00");
+        }
+        assertThat(loaded.get(0).getCurrentPrice()).isEqualByComparingTo("300000.00");
+        assertThatThrownBy(() -> lists.get(1).add(flight(3L))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void optionalResultIsCopiedPerCaller() {
+        Flight loaded = flight(1L);
+
+        Optional<Flight> first = coalescer.execute("getFlightById", () -> Optional.of(loaded), 1L);
+        Optional<Flight> second = coalescer.execute("getFlightById", () -> Optional.of(loaded), 1L);
+
+        assertThat(first).get().isNotSameAs(loaded).isNotSameAs(second.orElseThrow());
+        assertThat(first.orElseThrow().getFlightNumber()).isEqualTo("SK1");
+    }
+
+    @Test
+    void failurePropagatesToEveryWaiter() throws Exception {
+        IllegalStateException failure = new IllegalStateException("db down");
+        List<Future<List<Flight>>> results = callConcurrently(() -> {
+            executions.incrementAndGet();
+            await(release);
+            throw failure;
+        });
+
+        assertThat(executions.get()).isEqualTo(1);
+        for (Future<List<Flight>> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        // 실패한 항목은 남지 않으므로 다음 호출은 다시 실행
+        assertThat(coalescer.execute("searchFlights", () -> List.of(flight(9L)), "ICN", "NRT")).hasSize(1);
+    }
+
+    // CALLERS 개 스레드가 같은 키로 호출하고, 첫 실행 외 모두 공유 결과를 기다릴 때까지 대기 후 loader 를 풀어 줌
+    private List<Future<List<Flight>>> callConcurrently(Supplier<List<Flight>> loader) throws InterruptedException {
+        List<Future<List<Flight>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(pool.submit(() -> coalescer.execute("searchFlights", loader, "ICN", "NRT")));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsed() < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(collapsed()).isEqualTo(CALLERS - 1);
+        release.countDown();
+        return results;
+    }
+
+    private double collapsed() {
+        return registry.counter("skyline.flight.query.collapsed", "method", "searchFlights").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Flight flight(Long id) {
+        Airport icn = new Airport("ICN", "Incheon", "Seoul", "KR");
+        Airport nrt = new Airport("NRT", "Narita", "Tokyo", "JP");
+        LocalDateTime departure = LocalDateTime.of(2026, 3, 1, 9, 0);
+        Flight flight = new Flight("SK" + id, icn, nrt, departure, departure.plusHours(2), "Airbus A320",
+                180, 120, new BigDecimal("250000.00"));
+        flight.setFlightId(id);
+        flight.setCurrentPrice(new BigDecimal("300000.00"));
+        return flight;
+    }
+}
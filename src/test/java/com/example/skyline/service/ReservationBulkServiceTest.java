@@ -0,0 +1,194 @@
+package com.example.skyline.service;
+
+import com.example.skyline.dto.BulkUpdateRequest;
+import com.example.skyline.entity.OutboxEvent;
+import com.example.skyline.entity.Reservation;
+import com.example.skyline.inventory.SeatInventoryRouter;
+import com.example.skyline.outbox.OutboxService;
+import com.example.skyline.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReservationBulkServiceTest {
+
+    private static final Long FLIGHT_ID = 7L;
+    private static final Reservation.ReservationStatus CONFIRMED = Reservation.ReservationStatus.CONFIRMED;
+    private static final Reservation.ReservationStatus CANCELLED = Reservation.ReservationStatus.CANCELLED;
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final SeatInventoryRouter seatInventoryRouter = mock(SeatInventoryRouter.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private ReservationBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new ReservationBulkService(reservationRepository, seatInventoryRouter, outboxService,
+                jdbcTemplate, transactionManager, 2);
+        when(reservationRepository.updateStatusByFlightAndIds(anyLong(), anyList(), eq(CONFIRMED), eq(CANCELLED)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(1).size());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void cancelByFlightProcessesKeysetChunks() throws Exception {
+        List<Long> confirmed = List.of(1L, 2L, 3L, 4L, 5L);
+        when(reservationRepository.countByFlight_FlightIdAndStatus(FLIGHT_ID, CONFIRMED)).thenReturn(5L);
+        when(reservationRepository.findIdsByFlightAfter(eq(FLIGHT_ID), eq(CONFIRMED), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> nextChunk(confirmed, invocation.getArgument(2),
+                        invocation.<Pageable>getArgument(3).getPageSize()));
+        // 3번은 청크 사이에 다른 요청이 먼저 취소해 잠금 대상에서 빠짐
+        when(reservationRepository.lockConfirmedIdsByFlightInRange(eq(FLIGHT_ID), anyLong(), anyLong()))
+                .thenAnswer(invocation -> confirmed.stream()
+                        .filter(id -> id > invocation.<Long>getArgument(1) && id <= invocation.<Long>getArgument(2))
+                        .filter(id -> id != 3L)
+                        .toList());
+
+        BulkJob job = service.cancelByFlight(FLIGHT_ID);
+        await(() -> job.getState() == BulkJob.JobState.COMPLETED);
+
+        assertThat(job.toStatus())
+                .containsEntry("total", 5L)
+                .containsEntry("processed", 4L)
+                .containsEntry("chunks", 3);
+        // 좌석 보정은 청크마다 실제로 바뀐 행 수만큼 한 번
+        verify(seatInventoryRouter, times(1)).increase(FLIGHT_ID, 2);
+        verify(seatInventoryRouter, times(2)).increase(FLIGHT_ID, 1);
+        verify(reservationRepository).updateStatusByFlightAndIds(FLIGHT_ID, List.of(4L),
+                CONFIRMED, CANCELLED);
+        verify(outboxService, times(3)).record(eq(OutboxEvent.EventType.FLIGHT_RESERVATIONS_CANCELLED),
+                any(), eq(FLIGHT_ID), any());
+    }
+
+    @Test
+    void jobMovesFromRunningToCompleted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationRepository.findIdsByFlightAfter(eq(FLIGHT_ID), eq(CONFIRMED), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return List.of();
+                });
+
+        BulkJob job = service.cancelByFlight(FLIGHT_ID);
+        assertThat(job.getState()).isIn(BulkJob.JobState.PENDING, BulkJob.JobState.RUNNING);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.getState()).isEqualTo(BulkJob.JobState.RUNNING);
+        assertThat(job.isFinished()).isFalse();
+
+        release.countDown();
+        await(job::isFinished);
+        assertThat(job.getState()).isEqualTo(BulkJob.JobState.COMPLETED);
+        assertThat(job.toStatus()).containsEntry("progress", 1.0).containsKey("finishedAt");
+    }
+
+    @Test
+    void jobFailsWhenChunkThrows() throws Exception {
+        when(reservationRepository.findIdsByFlightAfter(eq(FLIGHT_ID), eq(CONFIRMED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+        when(reservationRepository.lockConfirmedIdsByFlightInRange(eq(FLIGHT_ID), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        BulkJob job = service.cancelByFlight(FLIGHT_ID);
+        await(job::isFinished);
+
+        assertThat(job.getState()).isEqualTo(BulkJob.JobState.FAILED);
+        assertThat(job.toStatus()).containsEntry("error", "lock wait timeout");
+        verify(seatInventoryRouter, never()).increase(anyLong(), any(Integer.class));
+    }
+
+    @Test
+    void retentionEvictsOnlyFinishedJobs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationRepository.findIdsByFlightAfter(eq(1L), eq(CONFIRMED), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return List.of();
+                });
+        when(reservationRepository.findIdsByFlightAfter(eq(2L), eq(CONFIRMED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        BulkJob running = service.cancelByFlight(1L);
+        List<BulkJob> finished = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            finished.add(service.cancelByFlight(2L));
+        }
+        await(() -> finished.stream().allMatch(BulkJob::isFinished));
+        BulkJob last = service.cancelByFlight(2L);
+
+        // 가장 오래된 작업이라도 실행 중이면 남고, 끝난 작업은 오래된 순으로 정리
+        assertThat(service.getJob(running.getJobId())).containsSame(running);
+        assertThat(service.getJob(finished.get(0).getJobId())).isEmpty();
+        assertThat(service.getJob(last.getJobId())).containsSame(last);
+        assertThat(service.getJob(finished.get(149).getJobId())).isPresent();
+        release.countDown();
+    }
+
+    @Test
+    void updatedCountIsReselectedWhenDriverReturnsNoInfo() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(
+                new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        when(reservationRepository.countByReservationIdIn(Set.of(1L, 3L))).thenReturn(1L);
+
+        int updated = service.updateReservations(List.of(change(1L), change(1L), change(3L)));
+
+        // 재작성된 배치는 건별 행 수를 알 수 없으므로 존재하는 예약(1번)만 갱신된 것으로 보고
+        assertThat(updated).isEqualTo(1);
+    }
+
+    @Test
+    void updatedCountUsesRowCountsWhenAvailable() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 0});
+
+        assertThat(service.updateReservations(List.of(change(1L), change(99L)))).isEqualTo(1);
+        verify(reservationRepository, never()).countByReservationIdIn(any());
+    }
+
+    private static List<Long> nextChunk(List<Long> ids, long afterId, int size) {
+        return ids.stream().filter(id -> id > afterId).limit(size).toList();
+    }
+
+    private static BulkUpdateRequest.Change change(Long reservationId) {
+        return new BulkUpdateRequest.Change(reservationId, "Kim", "kim@example.com", null, "1A");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.skyline.traffic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String SEARCH = "GET /api/flights/search";
+    private static final String BOOK = "POST /api/reservations";
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), initialLimit, 4, 200, 0.7, 2.0, 0.9,
+                2000, 10_000);
+    }
+
+    // 한도만큼 동시에 받아 모두 완료 (한도를 다 쓰는 부하). 요청마다 경로와 지연을 번갈아 사용
+    private static void saturatedRound(AdaptiveConcurrencyLimiter limiter, String[] routes, long[] rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(RequestPriority.WRITE)) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(routes[i % routes.length], rttNanos[i % rttNanos.length], false);
+        }
+    }
+
+    // 동시 처리 능력이 capacity 인 백엔드: 그 이상 받으면 대기 때문에 지연이 비례해 늘어남
+    private static void queuedRound(AdaptiveConcurrencyLimiter limiter, int capacity, long serviceNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire(RequestPriority.WRITE)) {
+            admitted++;
+        }
+        long rtt = (long) (serviceNanos * Math.max(1.0, (double) admitted / capacity));
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(BOOK, rtt, false);
+        }
+    }
+
+    @Test
+    void rejectsBeyondLimitAndReservesHeadroomForWrites() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        int reads = 0;
+        while (limiter.tryAcquire(RequestPriority.READ)) {
+            reads++;
+        }
+        assertThat(reads).isEqualTo(7);
+
+        int writes = 0;
+        while (limiter.tryAcquire(RequestPriority.WRITE)) {
+            writes++;
+        }
+        assertThat(writes).isEqualTo(3);
+        assertThat(limiter.getInflight()).isEqualTo(10);
+    }
+
+    @Test
+    void subMillisecondSearchesDoNotCollapseLimitForDatabaseRoutes() {
+        String[] routes = {SEARCH, BOOK};
+        long[] rtts = {200_000, 15 * MS, 200_000, 20 * MS, 200_000, 25 * MS};
+
+        AdaptiveConcurrencyLimiter perRoute = limiter(20);
+        for (int round = 0; round < 50; round++) {
+            saturatedRound(perRoute, routes, rtts);
+        }
+        assertThat(perRoute.getLimit()).isGreaterThan(20);
+        @SuppressWarnings("unchecked")
+        Map<String, Double> baselines = (Map<String, Double>) perRoute.getStatus().get("baseline_rtt_ms");
+        assertThat(baselines).containsEntry(SEARCH, 0.2).containsEntry(BOOK, 15.0);
+
+        // 같은 지연을 하나의 기준으로 비교하면 예약 요청이 모두 혼잡으로 보여 한도가 최소로 떨어짐
+        AdaptiveConcurrencyLimiter shared = limiter(20);
+        for (int round = 0; round < 50; round++) {
+            saturatedRound(shared, new String[]{"shared"}, rtts);
+            sleepPastDecreaseSpacing();
+        }
+        assertThat(shared.getLimit()).isLessThan(5.0);
+    }
+
+    @Test
+    void queueingUnderSyntheticLoadKeepsLimitNearBackendCapacity() {
+        // 처리 능력보다 낮은 한도에서 시작해 기준 지연(10ms)을 학습한 뒤 점점 한도를 넘는 부하
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+
+        for (int round = 0; round < 150; round++) {
+            queuedRound(limiter, 16, 10 * MS);
+            sleepPastDecreaseSpacing();
+        }
+
+        // 대기로 지연이 기준의 2배를 넘지 않는 수준 (동시 처리 능력의 약 2배) 근처에서 유지
+        assertThat(limiter.getLimit()).isBetween(16.0, 48.0);
+    }
+
+    @Test
+    void limitIsNotRaisedWhileMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire(RequestPriority.READ);
+            limiter.release(SEARCH, MS, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void errorsAndTimeoutsBackOffMultiplicatively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+        limiter.tryAcquire(RequestPriority.WRITE);
+        limiter.release(BOOK, MS, true);
+        assertThat(limiter.getLimit()).isEqualTo(90);
+
+        // 같은 혼잡으로 연달아 실패해도 10ms 안에는 한 번만 감소
+        limiter.tryAcquire(RequestPriority.WRITE);
+        limiter.release(BOOK, MS, true);
+        assertThat(limiter.getLimit()).isEqualTo(90);
+
+        sleepPastDecreaseSpacing();
+        limiter.tryAcquire(RequestPriority.WRITE);
+        limiter.release(BOOK, 3000 * MS, false);
+        assertThat(limiter.getLimit()).isEqualTo(81);
+    }
+
+    @Test
+    void routesBeyondCapShareOneBaseline() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int i = 0; i < AdaptiveConcurrencyLimiter.MAX_ROUTES + 50; i++) {
+            limiter.tryAcquire(RequestPriority.READ);
+            limiter.release("GET /api/route-" + i, MS, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Double> baselines = (Map<String, Double>) limiter.getStatus().get("baseline_rtt_ms");
+        assertThat(baselines).hasSize(AdaptiveConcurrencyLimiter.MAX_ROUTES + 1)
+                .containsKey(AdaptiveConcurrencyLimiter.OTHER_ROUTE);
+    }
+
+    private static void sleepPastDecreaseSpacing() {
+        try {
+            Thread.sleep(11);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.skyline.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private static final FilterChain OK = (request, response) -> { };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(meterRegistry,
+            4, 4, 200, 0.5, 2.0, 0.9, 2000, 10_000);
+    private final ClientRateLimiter rateLimiter = new ClientRateLimiter(meterRegistry, 1, 5, 1, 2, 600_000);
+
+    private LoadSheddingFilter filter(String... trustedProxies) {
+        return new LoadSheddingFilter(concurrencyLimiter, rateLimiter, meterRegistry, new ObjectMapper(),
+                true, "X-Client-Id", trustedProxies);
+    }
+
+    private static MockHttpServletRequest request(String method, String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/flights/search");
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse send(LoadSheddingFilter filter, MockHttpServletRequest request,
+                                                FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void rateLimitsPerRemoteAddressWith429() throws Exception {
+        LoadSheddingFilter filter = filter();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(send(filter, request("GET", "203.0.113.7", null), OK).getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse limited = send(filter, request("GET", "203.0.113.7", null), OK);
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(limited.getContentAsString()).contains("\"error\":\"rate_limited\"");
+
+        assertThat(send(filter, request("GET", "203.0.113.8", null), OK).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("skyline.shedding.rejected", "reason", "rate_limited", "priority", "read")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void spoofedClientHeaderDoesNotBypassRateLimit() throws Exception {
+        LoadSheddingFilter filter = filter();
+
+        int shed = 0;
+        for (int i = 0; i < 50; i++) {
+            if (send(filter, request("GET", "203.0.113.7", "client-" + i), OK).getStatus() == 429) {
+                shed++;
+            }
+        }
+        assertThat(shed).isGreaterThanOrEqualTo(44);
+    }
+
+    @Test
+    void clientHeaderIsHonouredFromTrustedProxy() throws Exception {
+        LoadSheddingFilter filter = filter("10.0.0.0/8", "::1");
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(send(filter, request("GET", "10.1.2.3", "client-" + i), OK).getStatus()).isEqualTo(200);
+        }
+        for (int i = 0; i < 5; i++) {
+            send(filter, request("GET", "0:0:0:0:0:0:0:1", "same"), OK);
+        }
+        assertThat(send(filter, request("GET", "0:0:0:0:0:0:0:1", "same"), OK).getStatus()).isEqualTo(429);
+        // 신뢰하지 않는 주소는 헤더가 있어도 원격 주소 기준
+        for (int i = 0; i < 5; i++) {
+            send(filter, request("GET", "11.0.0.1", "other-" + i), OK);
+        }
+        assertThat(send(filter, request("GET", "11.0.0.1", "fresh"), OK).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shedsReadsWith503WhenConcurrencyLimitIsReachedButAdmitsWrites() throws Exception {
+        LoadSheddingFilter filter = filter();
+        CountDownLatch admitted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            admitted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // 서로 다른 클라이언트 10개가 동시에 느린 조회를 보냄 (조회 한도 = 4 * 0.5 = 2)
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                String remoteAddr = "198.51.100." + i;
+                responses.add(executor.submit(() -> send(filter, request("GET", remoteAddr, null), slow)));
+            }
+            assertThat(admitted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            int overloaded = 0;
+            for (Future<MockHttpServletResponse> response : responses) {
+                if (response.isDone()) {
+                    assertThat(response.get().getStatus()).isEqualTo(503);
+                    assertThat(response.get().getHeader("Retry-After")).isEqualTo("1");
+                    overloaded++;
+                }
+            }
+            // 나머지는 대기 없이 바로 거절되었어야 함
+            for (int attempt = 0; overloaded < 8 && attempt < 100; attempt++) {
+                Thread.sleep(50);
+                overloaded = (int) responses.stream().filter(Future::isDone).count();
+            }
+            assertThat(overloaded).isEqualTo(8);
+
+            // 조회가 포화되어도 예약 변경은 남은 한도로 처리
+            assertThat(send(filter, request("POST", "198.51.100.200", null), OK).getStatus()).isEqualTo(200);
+
+            release.countDown();
+            int ok = 0;
+            for (Future<MockHttpServletResponse> response : responses) {
+                if (response.get(10, TimeUnit.SECONDS).getStatus() == 200) {
+                    ok++;
+                }
+            }
+            assertThat(ok).isEqualTo(2);
+            assertThat(concurrencyLimiter.getInflight()).isZero();
+            assertThat(meterRegistry.counter("skyline.shedding.rejected", "reason", "overloaded", "priority", "read")
+                    .count()).isEqualTo(8);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void serverErrorsReduceLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(meterRegistry,
+                50, 4, 200, 0.7, 2.0, 0.9, 2000, 10_000);
+        LoadSheddingFilter filter = new LoadSheddingFilter(limiter, rateLimiter, meterRegistry, new ObjectMapper(),
+                true, "X-Client-Id", new String[0]);
+
+        send(filter, request("POST", "203.0.113.9", null), (request, response) ->
+                ((jakarta.servlet.http.HttpServletResponse) response).setStatus(500));
+
+        assertThat(limiter.getLimit()).isEqualTo(45);
+    }
+
+    @Test
+    void ignoresNonApiPaths() throws Exception {
+        LoadSheddingFilter filter = filter();
+
+        for (int i = 0; i < 20; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+            assertThat(send(filter, request, OK).getStatus()).isEqualTo(200);
+        }
+    }
+}
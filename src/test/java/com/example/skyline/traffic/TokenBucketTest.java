@@ -0,0 +1,55 @@
+package com.example.skyline.traffic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        // 초당 10개이므로 다음 토큰까지 100ms
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryConsume(SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(bucket.tryConsume(SECOND / 10)).isZero();
+    }
+
+    @Test
+    void refillIsCappedAtBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(0);
+        }
+
+        long later = 60 * SECOND;
+        int granted = 0;
+        while (bucket.tryConsume(later) == 0) {
+            granted++;
+        }
+        assertThat(granted).isEqualTo(3);
+    }
+
+    @Test
+    void sustainedOverloadIsHeldToConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(50, 100, 0);
+
+        // 10초 동안 1ms 마다 요청 (초당 1000회) -> 버스트 100 + 초당 50 만 허용
+        int granted = 0;
+        for (long now = 0; now < 10 * SECOND; now += TimeUnit.MILLISECONDS.toNanos(1)) {
+            if (bucket.tryConsume(now) == 0) {
+                granted++;
+            }
+        }
+        assertThat(granted).isBetween(599, 601);
+        assertThat(bucket.getLastUsedNanos()).isGreaterThan(9 * SECOND);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.skyline.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 메모리 색인 정적 자산: SPA 폴백, 서버 경로 404, Accept-Encoding 협상, 인코딩별 ETag/304
+class StaticAssetHandlerTest {
+
+    private static final String INDEX_HTML = "<!doctype html><div id=\"root\"></div>";
+    private static final String APP_JS = "console.log('skyline');\n".repeat(100);
+
+    @TempDir
+    Path directory;
+
+    private StaticAssetHandler handler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(directory.resolve("index.html"), INDEX_HTML);
+        Path assets = Files.createDirectories(directory.resolve("assets"));
+        Files.writeString(assets.resolve("index-fc7ea1dc.js"), APP_JS);
+        // 빌드가 만든 brotli 압축본 (내용은 협상 결과 확인용)
+        Files.write(assets.resolve("index-fc7ea1dc.js.br"), new byte[]{1, 2, 3});
+        handler = new StaticAssetHandler(new StaticAssetIndex(directory.toUri().toString(), "/assets/"));
+    }
+
+    @Test
+    void clientRoutesFallBackToIndexPage() throws Exception {
+        for (String path : new String[]{"/", "/reservations", "/flights/KE701/seats"}) {
+            MockHttpServletResponse response = get(path, null, null);
+
+            assertThat(response.getStatus()).as(path).isEqualTo(200);
+            assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(INDEX_HTML);
+            assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache");
+        }
+    }
+
+    @Test
+    void serverPathsAndMissingFilesAreNotFound() throws Exception {
+        for (String path : new String[]{"/api/flights/unknown", "/api", "/actuator/foo", "/internal/inventory",
+                "/assets/missing-1234.js", "/favicon.ico", "/reservations/report.pdf"}) {
+            assertThat(get(path, null, null).getStatus()).as(path).isEqualTo(404);
+        }
+    }
+
+    @Test
+    void negotiatesEncodingAndHonoursZeroQuality() throws Exception {
+        String path = "/assets/index-fc7ea1dc.js";
+
+        MockHttpServletResponse brotli = get(path, "gzip, deflate, br", null);
+        assertThat(brotli.getHeader("Content-Encoding")).isEqualTo("br");
+        assertThat(brotli.getContentAsByteArray()).containsExactly(1, 2, 3);
+        assertThat(brotli.getHeader("Cache-Control")).contains("immutable");
+        assertThat(brotli.getHeader("Vary")).isEqualTo("Accept-Encoding");
+
+        // .gz 가 없으면 기동 시 생성한 gzip 으로 응답
+        MockHttpServletResponse gzip = get(path, "br;q=0, gzip", null);
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.getContentAsByteArray().length).isLessThan(APP_JS.length());
+
+        MockHttpServletResponse identity = get(path, "br;q=0, gzip;q=0.0", null);
+        assertThat(identity.getHeader("Content-Encoding")).isNull();
+        assertThat(identity.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(APP_JS);
+
+        assertThat(get(path, null, null).getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void eachEncodingHasItsOwnEtag() throws Exception {
+        String path = "/assets/index-fc7ea1dc.js";
+        String identity = get(path, null, null).getHeader("ETag");
+        String brotli = get(path, "br", null).getHeader("ETag");
+        String gzip = get(path, "gzip", null).getHeader("ETag");
+
+        assertThat(identity).startsWith("\"").endsWith("\"");
+        assertThat(brotli).isEqualTo(identity.substring(0, identity.length() - 1) + "-br\"");
+        assertThat(gzip).isEqualTo(identity.substring(0, identity.length() - 1) + "-gz\"");
+    }
+
+    @Test
+    void matchingEtagReturnsNotModifiedWithoutBody() throws Exception {
+        String path = "/assets/index-fc7ea1dc.js";
+        String brotli = get(path, "br", null).getHeader("ETag");
+
+        MockHttpServletResponse notModified = get(path, "br", "\"other\", W/" + brotli);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(notModified.getHeader("ETag")).isEqualTo(brotli);
+
+        // 다른 인코딩 본문의 ETag 로는 304 가 되지 않음
+        MockHttpServletResponse otherEncoding = get(path, "gzip", brotli);
+        assertThat(otherEncoding.getStatus()).isEqualTo(200);
+        assertThat(otherEncoding.getHeader("Content-Encoding")).isEqualTo("gzip");
+
+        assertThat(get("/reservations", null, "*").getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void headOmitsBodyAndOtherMethodsAreRejected() throws Exception {
+        MockHttpServletRequest head = new MockHttpServletRequest("HEAD", "/index.html");
+        MockHttpServletResponse headResponse = new MockHttpServletResponse();
+        handler.handleRequest(head, headResponse);
+        assertThat(headResponse.getStatus()).isEqualTo(200);
+        assertThat(headResponse.getContentLength()).isEqualTo(INDEX_HTML.length());
+        assertThat(headResponse.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletResponse post = new MockHttpServletResponse();
+        handler.handleRequest(new MockHttpServletRequest("POST", "/reservations"), post);
+        assertThat(post.getStatus()).isEqualTo(405);
+        assertThat(post.getHeader("Allow")).isEqualTo("GET, HEAD");
+    }
+
+    private MockHttpServletResponse get(String path, String acceptEncoding, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+}